@@ -262,6 +262,12 @@ public final class TownsAndNations extends JavaPlugin {
         }
     }
 
+    private void closeDatabase() {
+        if (databaseHandler != null) {
+            databaseHandler.close();
+        }
+    }
+
     /**
      * Method used to set up the economy of the server if Vault is enabled.
      */
@@ -282,6 +288,7 @@ public final class TownsAndNations extends JavaPlugin {
     public void onDisable() {
         if(System.currentTimeMillis() - dateOfStart < 30000){
             getLogger().info("[TaN] Not saving data because plugin was closed less than 30s after launch");
+            closeDatabase();
             getLogger().info("[TaN] Plugin disabled");
             return;
         }
@@ -289,12 +296,10 @@ public final class TownsAndNations extends JavaPlugin {
         getLogger().info("[TaN] Savings Data");
 
 
-        RegionDataStorage.getInstance().saveStats();
-        TownDataStorage.getInstance().saveStats();
-        PlayerDataStorage.getInstance().saveStats();
-        NewClaimedChunkStorage.getInstance().save();
-        LandmarkStorage.getInstance().save();
-        PlannedAttackStorage.save();
+        SaveStats.saveAll(true);
+        NewClaimedChunkStorage.getInstance().close();
+        SaveStats.shutdown();
+        closeDatabase();
 
         try {
             Thread.sleep(50);
@@ -321,6 +326,7 @@ public final class TownsAndNations extends JavaPlugin {
         pluginManager.registerEvents(new ChatListener(), this);
         pluginManager.registerEvents(new ChunkListener(), this);
         pluginManager.registerEvents(new PlayerJoinListener(), this);
+        pluginManager.registerEvents(new PlayerQuitListener(), this);
         pluginManager.registerEvents(new PlayerEnterChunkListener(), this);
         pluginManager.registerEvents(new ChatScopeListener(), this);
         pluginManager.registerEvents(new MobSpawnListener(), this);
@@ -6,7 +6,6 @@ import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.leralix.tan.TownsAndNations;
 import org.leralix.tan.dataclass.ITanPlayer;
-import org.leralix.tan.dataclass.territory.RegionData;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.economy.EconomyUtil;
@@ -195,17 +194,11 @@ public class PlaceHolderAPI extends PlaceholderExpansion {
     }
 
     private TerritoryData getTerritoryByName(String name) {
-        for(TownData townData : TownDataStorage.getInstance().getAll()){
-            if(townData.getName().equalsIgnoreCase(name)){
-                return townData;
-            }
+        TownData townData = TownDataStorage.getInstance().getByName(name);
+        if(townData != null){
+            return townData;
         }
-        for(RegionData regionData : RegionDataStorage.getInstance().getAll()){
-            if(regionData.getName().equalsIgnoreCase(name)){
-                return regionData;
-            }
-        }
-        return null;
+        return RegionDataStorage.getInstance().getByName(name);
     }
 
     public static String[] extractValues(String input) {
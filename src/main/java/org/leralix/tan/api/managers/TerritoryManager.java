@@ -44,7 +44,8 @@ public class TerritoryManager implements TanTerritoryManager {
 
     @Override
     public Optional<TanTown> getTownByName(String s) {
-        return Optional.empty();
+        TownDataWrapper townDataWrapper = TownDataWrapper.of(townDataStorageInstance.getByName(s));
+        return Optional.ofNullable(townDataWrapper);
     }
 
     @Override
@@ -63,7 +64,8 @@ public class TerritoryManager implements TanTerritoryManager {
 
     @Override
     public Optional<TanRegion> getRegionByName(String s) {
-        return Optional.empty();
+        RegionDataWrapper regionDataWrapper = RegionDataWrapper.of(regionDataStorageInstance.getByName(s));
+        return Optional.ofNullable(regionDataWrapper);
     }
 
     @Override
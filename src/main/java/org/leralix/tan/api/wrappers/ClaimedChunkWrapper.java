@@ -83,10 +83,10 @@ public class ClaimedChunkWrapper implements TanClaimedChunk {
             return;
         }
         if(tanTerritory instanceof TanTown){
-            NewClaimedChunkStorage.getInstance().claimTownChunk(claimedChunk.getChunk(), tanTerritory.getID());
+            NewClaimedChunkStorage.getInstance().claimTownChunk(claimedChunk.getWorldUUID(), claimedChunk.getX(), claimedChunk.getZ(), tanTerritory.getID());
         }
         if(tanTerritory instanceof TanRegion){
-            NewClaimedChunkStorage.getInstance().claimRegionChunk(claimedChunk.getChunk(), tanTerritory.getID());
+            NewClaimedChunkStorage.getInstance().claimRegionChunk(claimedChunk.getWorldUUID(), claimedChunk.getX(), claimedChunk.getZ(), tanTerritory.getID());
         }
     }
 
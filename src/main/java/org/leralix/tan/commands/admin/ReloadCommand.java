@@ -6,9 +6,12 @@ import org.leralix.lib.commands.SubCommand;
 import org.leralix.lib.utils.config.ConfigTag;
 import org.leralix.lib.utils.config.ConfigUtil;
 import org.leralix.tan.TownsAndNations;
+import org.leralix.tan.dataclass.territory.TerritoryData;
+import org.leralix.tan.integration.worldguard.WorldGuardManager;
 import org.leralix.tan.lang.DynamicLang;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.storage.ClaimBlacklistStorage;
+import org.leralix.tan.storage.ClaimMapCache;
 import org.leralix.tan.storage.MobChunkSpawnStorage;
 import org.leralix.tan.storage.PvpSettings;
 import org.leralix.tan.storage.WildernessRules;
@@ -64,6 +67,9 @@ public class ReloadCommand extends SubCommand {
             PvpSettings.init();
             WildernessRules.getInstance().init();
             NumberUtil.init();
+            ClaimMapCache.getInstance().clear();
+            TerritoryData.invalidateAllIcons();
+            WorldGuardManager.getInstance().clearCache();
 
             player.sendMessage(TanChatUtils.getTANString() + Lang.RELOAD_SUCCESS.get(player));
             player.sendMessage(TanChatUtils.getTANString() + Lang.LANGUAGE_SUCCESSFULLY_LOADED.get());
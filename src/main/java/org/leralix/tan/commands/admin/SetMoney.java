@@ -4,6 +4,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.leralix.lib.commands.SubCommand;
 import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.economy.BalanceLedger;
 import org.leralix.tan.economy.EconomyUtil;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.storage.stored.PlayerDataStorage;
@@ -62,7 +63,7 @@ public class SetMoney extends SubCommand {
         }
 
         EconomyUtil.setBalance(target, amount);
-        target.setBalance(amount);
+        BalanceLedger.setBalance(target, amount);
         player.sendMessage(TanChatUtils.getTANString() + Lang.SET_MONEY_COMMAND_SUCCESS.get(amount, target.getNameStored()));
         FileUtil.addLineToHistory(Lang.HISTORY_ADMIN_SET_MONEY.get(player.getName(),amount, target.getNameStored()));
     }
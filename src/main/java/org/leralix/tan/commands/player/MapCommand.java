@@ -9,9 +9,12 @@ import org.bukkit.Chunk;
 import org.bukkit.entity.Player;
 import org.leralix.lib.commands.PlayerSubCommand;
 import org.leralix.lib.position.CardinalPoint;
-import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
+import org.leralix.lib.utils.config.ConfigTag;
+import org.leralix.lib.utils.config.ConfigUtil;
+import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.storage.ClaimMapCache;
+import org.leralix.tan.storage.stored.PlayerDataStorage;
 import org.leralix.tan.utils.TanChatUtils;
-import org.leralix.tan.dataclass.chunk.ClaimedChunk2;
 import org.leralix.tan.enums.ClaimAction;
 import org.leralix.tan.enums.MapSettings;
 import org.leralix.tan.lang.Lang;
@@ -60,17 +63,19 @@ public class MapCommand extends PlayerSubCommand {
 
     public static void openMap(Player player, MapSettings settings) {
         Chunk currentChunk = player.getLocation().getChunk();
-        int radius = 4;
+        UUID worldUUID = player.getWorld().getUID();
+        int radius = Math.max(1, ConfigUtil.getCustomConfig(ConfigTag.MAIN).getInt("mapRadius", 4));
+        ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(player);
         Map<Integer, TextComponent> text = new HashMap<>();
         TextComponent claimType = new TextComponent(Lang.MAP_CLAIM_TYPE.get());
         claimType.setHoverEvent(null);
         claimType.setClickEvent(null);
         claimType.setColor(net.md_5.bungee.api.ChatColor.GRAY);
-        text.put(-4, claimType);
+        text.put(-radius, claimType);
         TextComponent typeButton = settings.getMapTypeButton();
-        text.put(-3, typeButton);
+        text.put(-radius + 1, typeButton);
         TextComponent actionButton = settings.getClaimTypeButton();
-        text.put(-2, actionButton);
+        text.put(-radius + 2, actionButton);
         float yaw = player.getLocation().getYaw();
 
         CardinalPoint cardinalPoint = CardinalPoint.getCardinalPoint(yaw);
@@ -88,9 +93,7 @@ public class MapCommand extends PlayerSubCommand {
                 chunkX += dx;
                 chunkZ += dz;
 
-                Chunk chunk = player.getWorld().getChunkAt(chunkX, chunkZ);
-                ClaimedChunk2 claimedChunk = NewClaimedChunkStorage.getInstance().get(chunk);
-                TextComponent icon = claimedChunk.getMapIcon(player);
+                TextComponent icon = ClaimMapCache.getInstance().getIcon(worldUUID, chunkX, chunkZ, tanPlayer);
 
                 if(dx == 0 && dz == 0){
                     icon.setText("🌑"); // For some reason, the only round emoji with the same size as ⬛ is this emoji
@@ -98,7 +101,7 @@ public class MapCommand extends PlayerSubCommand {
 
                 ClaimAction claimAction = settings.getClaimActionType();
                 ClaimType mapType = settings.getClaimType();
-                icon.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/tan " + claimAction.toString().toLowerCase() + " " + mapType.toString().toLowerCase() + " " + chunk.getX() + " " + chunk.getZ()));
+                icon.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/tan " + claimAction.toString().toLowerCase() + " " + mapType.toString().toLowerCase() + " " + chunkX + " " + chunkZ));
                 newLine.addExtra(icon);
             }
             if (text.containsKey(dz)) {
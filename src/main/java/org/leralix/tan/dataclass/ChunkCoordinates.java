@@ -12,7 +12,7 @@ public class ChunkCoordinates {
     private final String worldID;
 
 
-    private ChunkCoordinates(int x, int y, String worldID) {
+    public ChunkCoordinates(int x, int y, String worldID) {
         this.x = x;
         this.z = y;
         this.worldID = worldID;
@@ -23,9 +23,20 @@ public class ChunkCoordinates {
     }
 
 
+    public int getX() {
+        return x;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * @return the chunk, or null if it is not currently loaded. This method never loads a chunk.
+     */
     public Chunk getChunk() {
         World world = Bukkit.getWorld(UUID.fromString(worldID));
-        if(world == null) {
+        if(world == null || !world.isChunkLoaded(x, z)) {
             return null;
         }
         return world.getChunkAt(x, z);
@@ -10,6 +10,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.leralix.lib.position.Vector3D;
 import org.leralix.lib.utils.config.ConfigTag;
 import org.leralix.lib.utils.config.ConfigUtil;
+import org.leralix.tan.storage.ClaimMapCache;
 import org.leralix.tan.storage.stored.LandmarkStorage;
 import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
 import org.leralix.tan.storage.stored.TownDataStorage;
@@ -53,6 +54,8 @@ public class Landmark {
     }
     public void setName(String newName){
         this.name = newName;
+        markDirty();
+        ClaimMapCache.getInstance().invalidateOwner(getID());
     }
 
     public void setOwner(TownData newOwner){
@@ -60,9 +63,11 @@ public class Landmark {
     }
     private void setOwnerID(String newOwnerID){
         this.ownerID = newOwnerID;
+        markDirty();
     }
     public void removeOwnership() {
         this.ownerID = null;
+        markDirty();
     }
     public String getOwnerID() {
         return ownerID;
@@ -104,10 +109,12 @@ public class Landmark {
         if(storedDays >= storedLimit)
             return;
         storedDays++;
+        markDirty();
     }
 
     public void setStoredLimit(int limit){
         storedLimit = limit;
+        markDirty();
     }
 
     public boolean isOwned() {
@@ -151,11 +158,12 @@ public class Landmark {
             getOwner().removeLandmark(getID());
         NewClaimedChunkStorage.getInstance().unclaimChunk(position.getLocation().getChunk());
         LandmarkStorage.getInstance().getLandMarkMap().remove(getID());
+        markDirty();
 
     }
 
     public int computeStoredReward(TownData townData){
-        long bonus = (townData.getLevel().getTotalBenefits().get("LANDMARK_BONUS") + 100 ) /100;
+        long bonus = (townData.getLevel().getBenefitsLevel("LANDMARK_BONUS") + 100 ) /100;
         return (int) (this.amount * storedDays * bonus);
     }
 
@@ -165,13 +173,18 @@ public class Landmark {
 
         player.getInventory().addItem(new ItemStack(Material.valueOf(materialName), number));
         storedDays = 0;
+        markDirty();
     }
 
 
     public void setReward(ItemStack itemOnCursor) {
         this.amount = itemOnCursor.getAmount();
         this.materialName = itemOnCursor.getType().name();
-        LandmarkStorage.getInstance().save();
+        markDirty();
+    }
+
+    private void markDirty() {
+        LandmarkStorage.getInstance().markDirty(getID());
     }
 
     public Location getLocation() {
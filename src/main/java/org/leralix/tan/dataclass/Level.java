@@ -10,12 +10,29 @@ import org.leralix.tan.storage.legacy.UpgradeStorage;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Level {
     private int townLevel;
 
     Map<String,Integer> levelMap;
 
+    /**
+     * Benefits of this level, computed from the upgrades loaded at the given generation.
+     * The array is never modified, it is replaced when the level or the upgrades change.
+     */
+    private record Benefits(int upgradeGeneration, int[] values) {
+    }
+
+    /**
+     * Money required to level up, by town level, for the upgrades loaded at the given generation.
+     */
+    private record RequiredMoneyCache(int upgradeGeneration, Map<Integer, Integer> requiredMoney) {
+    }
+
+    private transient Benefits benefits;
+    private static volatile RequiredMoneyCache requiredMoneyCache;
+
     //for json
     public Level(){
         levelMap = new HashMap<>();
@@ -37,10 +54,11 @@ public class Level {
     }
     public void townLevelUp(){
         this.townLevel++;
+        this.benefits = null;
     }
 
     public int getPlayerCap() {
-        return getTotalBenefits().get("PLAYER_CAP");
+        return getBenefitsLevel("PLAYER_CAP");
     }
 
     public int getChunkCap() {
@@ -48,22 +66,28 @@ public class Level {
     }
 
     public int getPropertyCap() {
-        Integer propertyCap = getTotalBenefits().get("PROPERTY_CAP");
-        if (propertyCap == null) {
-            return 0;
-        }
-        return propertyCap;
+        return getBenefitsLevel("PROPERTY_CAP");
     }
 
     public boolean isTownSpawnUnlocked() {
-        return getTotalBenefits().get("TOWN_SPAWN_UNLOCKED") > 1;
+        return getBenefitsLevel("TOWN_SPAWN_UNLOCKED") > 1;
     }
 
     public int getMoneyRequiredForLevelUp() {
         return getRequiredMoney(getTownLevel());
     }
 
-    private int getRequiredMoney(int level) {
+    private static int getRequiredMoney(int level) {
+        int generation = UpgradeStorage.getGeneration();
+        RequiredMoneyCache cache = requiredMoneyCache;
+        if (cache == null || cache.upgradeGeneration() != generation) {
+            cache = new RequiredMoneyCache(generation, new ConcurrentHashMap<>());
+            requiredMoneyCache = cache;
+        }
+        return cache.requiredMoney().computeIfAbsent(level, Level::computeRequiredMoney);
+    }
+
+    private static int computeRequiredMoney(int level) {
         FileConfiguration fg = ConfigUtil.getCustomConfig(ConfigTag.UPGRADE);
         ConfigurationSection section = fg.getConfigurationSection("townUpgrades");
         String expressionString = section.getString("TownLevelExpression");
@@ -90,33 +114,55 @@ public class Level {
     public void levelUp(TownUpgrade townUpgrade) {
         int currentLevel = this.getUpgradeLevel(townUpgrade.getName());
         this.levelMap.put(townUpgrade.getName(), currentLevel + 1);
+        this.benefits = null;
     }
 
-    public Map<String, Integer> getTotalBenefits() {
-        Map<String, Integer> benefits = new HashMap<>();
+    private int[] getBenefits() {
+        Benefits currentBenefits = this.benefits;
+        int generation = UpgradeStorage.getGeneration();
+        if (currentBenefits == null || currentBenefits.upgradeGeneration() != generation) {
+            currentBenefits = new Benefits(generation, computeBenefits());
+            this.benefits = currentBenefits;
+        }
+        return currentBenefits.values();
+    }
 
+    private int[] computeBenefits() {
+        int[] values = new int[UpgradeStorage.getNumberOfBenefits()];
         for(TownUpgrade townUpgrade : UpgradeStorage.getUpgrades()){
-
-            String name = townUpgrade.getName();
-            Map<String, Integer> map = townUpgrade.getBenefits();
-
-            for(final Map.Entry<String, Integer> entry : map.entrySet()) {
-                String benefitName = entry.getKey();
-                Integer benefitValue = entry.getValue() * this.getUpgradeLevel(name);
-
-                if (benefits.containsKey(benefitName)) {
-                    benefits.put(benefitName, benefits.get(benefitName) + benefitValue);
-                } else {
-                    benefits.put(benefitName, benefitValue);
+            int upgradeLevel = this.getUpgradeLevel(townUpgrade.getName());
+            for(final Map.Entry<String, Integer> entry : townUpgrade.getBenefits().entrySet()) {
+                int index = UpgradeStorage.getBenefitIndex(entry.getKey());
+                if (index >= 0 && index < values.length) {
+                    values[index] += entry.getValue() * upgradeLevel;
                 }
             }
         }
-        return benefits;
+        return values;
+    }
+
+    /**
+     * @return every benefit given by this level, by benefit name
+     */
+    public Map<String, Integer> getTotalBenefits() {
+        int[] values = getBenefits();
+        Map<String, Integer> totalBenefits = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : UpgradeStorage.getBenefitIndexes().entrySet()) {
+            int index = entry.getValue();
+            if (index < values.length) {
+                totalBenefits.put(entry.getKey(), values[index]);
+            }
+        }
+        return totalBenefits;
     }
 
     public int getBenefitsLevel(String benefitName) {
-        Map<String, Integer> benefits = this.getTotalBenefits();
-        return benefits.getOrDefault(benefitName,0);
+        int index = UpgradeStorage.getBenefitIndex(benefitName);
+        int[] values = getBenefits();
+        if (index < 0 || index >= values.length) {
+            return 0;
+        }
+        return values[index];
     }
 
 }
@@ -10,6 +10,7 @@ import org.leralix.tan.dataclass.territory.RegionData;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.dataclass.wars.CurrentAttack;
+import org.leralix.tan.economy.BalanceLedger;
 import org.leralix.tan.enums.TownRelation;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.lang.LangType;
@@ -30,7 +31,10 @@ public class PlayerData implements ITanPlayer {
 
     private String UUID;
     private String storedName;
-    private Double Balance;
+    /**
+     * Only modified through {@link BalanceLedger}, so it can be read from any thread without locking.
+     */
+    private volatile double Balance;
     private String TownId;
     private Integer townRankID;
     private Integer regionRankID;
@@ -67,10 +71,12 @@ public class PlayerData implements ITanPlayer {
 
     public void setNameStored(String name) {
         this.storedName = name;
+        markDirty();
     }
 
     public void clearName() {
         this.storedName = null;
+        markDirty();
     }
 
     public double getBalance() {
@@ -79,6 +85,7 @@ public class PlayerData implements ITanPlayer {
 
     public void setBalance(double balance) {
         this.Balance = balance;
+        markDirty();
     }
 
     public String getTownId() {
@@ -112,11 +119,11 @@ public class PlayerData implements ITanPlayer {
     }
 
     public void addToBalance(double amount) {
-        this.Balance = this.Balance + amount;
+        BalanceLedger.deposit(this, amount);
     }
 
     public void removeFromBalance(double amount) {
-        this.Balance = this.Balance - amount;
+        BalanceLedger.withdraw(this, amount);
     }
 
     public boolean hasRegion() {
@@ -144,10 +151,12 @@ public class PlayerData implements ITanPlayer {
     public void leaveTown() {
         this.TownId = null;
         this.townRankID = null;
+        markDirty();
     }
 
     public void setTownRankID(int townRankID) {
         this.townRankID = townRankID;
+        markDirty();
     }
 
     public Integer getTownRankID() {
@@ -162,6 +171,7 @@ public class PlayerData implements ITanPlayer {
 
     public void addProperty(PropertyData propertyData) {
         getPropertiesListID().add(propertyData.getTotalID());
+        markDirty();
     }
 
     public List<PropertyData> getProperties() {
@@ -182,6 +192,7 @@ public class PlayerData implements ITanPlayer {
 
     public void removeProperty(PropertyData propertyData) {
         this.propertiesListID.remove(propertyData.getTotalID());
+        markDirty();
     }
 
     public Player getPlayer() {
@@ -212,6 +223,7 @@ public class PlayerData implements ITanPlayer {
             return;
         }
         getAttackInvolvedIn().add(currentAttacks.getId());
+        markDirty();
     }
 
     public void updateCurrentAttack() {
@@ -231,21 +243,12 @@ public class PlayerData implements ITanPlayer {
         if (territoryData == null) {
             return false;
         }
-        for (String attackID : getAttackInvolvedIn()) {
-            CurrentAttack currentAttack = CurrentAttacksStorage.get(attackID);
-            if (currentAttack == null) {
-                getAttackInvolvedIn().remove(attackID);
-                continue;
-            }
-            if (currentAttack.getDefenders().contains(territoryData)) {
-                return true;
-            }
-        }
-        return false;
+        return CurrentAttacksStorage.isAtWarWith(getID(), territoryData.getID());
     }
 
     public void removeWar(@NotNull CurrentAttack currentAttacks) {
         getAttackInvolvedIn().remove(currentAttacks.getId());
+        markDirty();
     }
 
     public TownRelation getRelationWithPlayer(Player playerToAdd) {
@@ -270,6 +273,7 @@ public class PlayerData implements ITanPlayer {
 
     public void setRegionRankID(Integer rankID) {
         this.regionRankID = rankID;
+        markDirty();
     }
 
     public Integer getRankID(TerritoryData territoryData) {
@@ -304,6 +308,7 @@ public class PlayerData implements ITanPlayer {
 
     public void setLang(LangType lang) {
         this.lang = lang;
+        markDirty();
     }
 
     public void clearAllTownApplications() {
@@ -332,6 +337,11 @@ public class PlayerData implements ITanPlayer {
 
     public void setTimeZone(TimeZoneEnum timeZone) {
         this.timeZone = timeZone;
+        markDirty();
+    }
+
+    private void markDirty() {
+        PlayerDataStorage.getInstance().markDirty(UUID);
     }
 
 }
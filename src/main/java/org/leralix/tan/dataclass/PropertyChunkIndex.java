@@ -0,0 +1,64 @@
+package org.leralix.tan.dataclass;
+
+import org.leralix.lib.position.Vector3D;
+import org.leralix.tan.utils.ChunkUtil;
+import org.leralix.tan.utils.LongObjectMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of the properties of a town by chunk.
+ * Each property is stored in every chunk it overlaps, so looking for the property at a location
+ * only tests the few properties of its chunk.
+ */
+public class PropertyChunkIndex {
+
+    private final LongObjectMap<List<PropertyData>> propertiesByChunk = new LongObjectMap<>();
+
+    public PropertyChunkIndex(Collection<PropertyData> properties) {
+        for (PropertyData propertyData : properties) {
+            add(propertyData);
+        }
+    }
+
+    public void add(PropertyData propertyData) {
+        Vector3D p1 = propertyData.getFirstCorner();
+        Vector3D p2 = propertyData.getSecondCorner();
+        for (int x = Math.min(p1.getX(), p2.getX()) >> 4; x <= Math.max(p1.getX(), p2.getX()) >> 4; x++) {
+            for (int z = Math.min(p1.getZ(), p2.getZ()) >> 4; z <= Math.max(p1.getZ(), p2.getZ()) >> 4; z++) {
+                long key = ChunkUtil.getChunkKey(x, z);
+                List<PropertyData> properties = propertiesByChunk.get(key);
+                if (properties == null) {
+                    properties = new ArrayList<>(2);
+                    propertiesByChunk.put(key, properties);
+                }
+                properties.add(propertyData);
+            }
+        }
+    }
+
+    public void remove(PropertyData propertyData) {
+        Vector3D p1 = propertyData.getFirstCorner();
+        Vector3D p2 = propertyData.getSecondCorner();
+        for (int x = Math.min(p1.getX(), p2.getX()) >> 4; x <= Math.max(p1.getX(), p2.getX()) >> 4; x++) {
+            for (int z = Math.min(p1.getZ(), p2.getZ()) >> 4; z <= Math.max(p1.getZ(), p2.getZ()) >> 4; z++) {
+                long key = ChunkUtil.getChunkKey(x, z);
+                List<PropertyData> properties = propertiesByChunk.get(key);
+                if (properties != null && properties.remove(propertyData) && properties.isEmpty()) {
+                    propertiesByChunk.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the properties overlapping the chunk. The list must not be modified.
+     */
+    public List<PropertyData> getProperties(int chunkX, int chunkZ) {
+        List<PropertyData> properties = propertiesByChunk.get(ChunkUtil.getChunkKey(chunkX, chunkZ));
+        return properties == null ? Collections.emptyList() : properties;
+    }
+}
@@ -68,6 +68,7 @@ public class PropertyData {
     }
     public void setSignLocation(Location loc){
         this.signLocation = new Vector3D(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ(), loc.getBlock().getWorld().getUID().toString());
+        markDirty();
     }
 
 
@@ -85,6 +86,7 @@ public class PropertyData {
 
     public void setIcon(CustomIcon icon){
         this.icon = icon;
+        markDirty();
     }
 
     public ItemStack getIcon(){
@@ -102,18 +104,28 @@ public class PropertyData {
         return TownDataStorage.getInstance().get(getOwningStructureID());
     }
 
+    /**
+     * Properties are saved with their town, so any modification marks the town as modified.
+     */
+    private void markDirty(){
+        TownData town = getTown();
+        if(town != null)
+            town.markDirty();
+    }
+
     public String getPropertyID(){
         String[] parts = ID.split("_");
         return parts[1];
     }
     public void setName(String name) {
         this.name = name;
-
+        markDirty();
         Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), this::updateSign);
     }
 
     public void setDescription(String description) {
         this.description = description;
+        markDirty();
         Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), this::updateSign);
     }
     public String getOwnerID() {
@@ -130,6 +142,7 @@ public class PropertyData {
             payRent();
         this.updateSign();
         getAllowedPlayersID().clear();
+        markDirty();
     }
     public boolean isRented(){
         return rentingPlayerID != null;
@@ -234,12 +247,14 @@ public class PropertyData {
         this.isForSale = !this.isForSale;
         if(this.isForSale)
             this.isForRent = false;
+        markDirty();
         updateSign();
     }
     public void swapIsRent() {
         this.isForRent = !this.isForRent;
         if(this.isForRent)
             this.isForSale = false;
+        markDirty();
         updateSign();
     }
 
@@ -292,11 +307,13 @@ public class PropertyData {
 
     public void setRentPrice(double i) {
         this.rentPrice = i;
+        markDirty();
         Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), this::updateSign);
     }
 
     public void setSalePrice(double i) {
         this.salePrice = i;
+        markDirty();
         Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), this::updateSign);
     }
 
@@ -370,6 +387,7 @@ public class PropertyData {
         this.isForSale = false;
         updateSign();
         getAllowedPlayersID().clear();
+        markDirty();
 
     }
     public List<String> getAllowedPlayersID(){
@@ -404,6 +422,7 @@ public class PropertyData {
             isForRent = true;
         updateSign();
         getAllowedPlayersID().clear();
+        markDirty();
     }
 
     public void addAuthorizedPlayer(Player player){
@@ -411,10 +430,12 @@ public class PropertyData {
     }
     public void addAuthorizedPlayer(String playerID){
         getAllowedPlayersID().add(playerID);
+        markDirty();
     }
 
     public void removeAuthorizedPlayer(String playerID){
         getAllowedPlayersID().remove(playerID);
+        markDirty();
     }
 
 
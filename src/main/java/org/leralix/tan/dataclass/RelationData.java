@@ -9,6 +9,8 @@ import org.leralix.tan.enums.TownRelation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +18,10 @@ import java.util.Map;
 public class RelationData {
 
     private final Map<TownRelation, List<String>> townRelations = new LinkedHashMap<>();
+    /**
+     * Relation with each territory, built from {@link #townRelations} which remains the serialized form.
+     */
+    private transient Map<String, TownRelation> relationIndex;
 
 
     public RelationData(){
@@ -38,33 +44,54 @@ public class RelationData {
 
 
     public void addRelation(TownRelation relation, String townID){
+        TownRelation previousRelation = getRelationIndex().get(townID);
+        if(previousRelation == relation)
+            return;
+        if(previousRelation != null)
+            townRelations.get(previousRelation).remove(townID);
         townRelations.get(relation).add(townID);
+        relationIndex.put(townID, relation);
     }
     public void removeRelation(TownRelation relation, String townID){
         if(!townRelations.containsKey(relation))
             return;
-        townRelations.get(relation).remove(townID);
+        if(townRelations.get(relation).remove(townID))
+            getRelationIndex().remove(townID);
     }
     public List<String> getTerritoriesIDWithRelation(TownRelation relation) {
-        return townRelations.get(relation);
+        List<String> territories = townRelations.get(relation);
+        return territories == null ? null : Collections.unmodifiableList(territories);
     }
 
+    /**
+     * @return a read-only view of every relation. Relations must be modified through this class to keep the index up to date.
+     */
     public Map<TownRelation, List<String>> getAll() {
-        return townRelations;
+        Map<TownRelation, List<String>> res = new LinkedHashMap<>();
+        for (Map.Entry<TownRelation, List<String>> entry : townRelations.entrySet()) {
+            res.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(res);
     }
 
     public TownRelation getRelationWith(String territoryID) {
-        for (Map.Entry<TownRelation, List<String>> entry : townRelations.entrySet()) {
-            TownRelation relation = entry.getKey();
-            List<String> list = entry.getValue();
+        return getRelationIndex().getOrDefault(territoryID, TownRelation.NEUTRAL);
+    }
 
-            for (String townUUID : list) {
-                if (territoryID.equals(townUUID)) {
-                    return relation;
-                }
+    /**
+     * Build the index if needed. A territory should only have one relation; if older data lists it several times,
+     * the first relation is kept, as it was the one returned before, and the others are removed.
+     */
+    private Map<String, TownRelation> getRelationIndex() {
+        if(relationIndex == null){
+            Map<String, TownRelation> index = new HashMap<>();
+            for (Map.Entry<TownRelation, List<String>> entry : townRelations.entrySet()) {
+                TownRelation relation = entry.getKey();
+                entry.getValue().removeIf(territoryID -> index.putIfAbsent(territoryID, relation) != null);
             }
+            relationIndex = index;
         }
-        return TownRelation.NEUTRAL;
+        return relationIndex;
     }
     public TownRelation getRelationWith(TerritoryData territory) {
         return getRelationWith(territory.getID());
@@ -95,8 +122,9 @@ public class RelationData {
     }
 
     public void removeAllRelationWith(String townID){
-        for(List<String> territories : townRelations.values()){
-            territories.remove(townID);
+        TownRelation relation = getRelationIndex().remove(townID);
+        if(relation != null){
+            townRelations.get(relation).remove(townID);
         }
     }
 }
@@ -10,6 +10,7 @@ import org.bukkit.entity.Player;
 import org.leralix.tan.dataclass.ITanPlayer;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.enums.permissions.ChunkPermissionType;
+import org.leralix.tan.integration.worldguard.EWorldGuardResult;
 import org.leralix.tan.integration.worldguard.WorldGuardManager;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.storage.stored.PlayerDataStorage;
@@ -81,9 +82,10 @@ public abstract class ClaimedChunk2 {
 
 
         var worldGuardManager = WorldGuardManager.getInstance();
-        if(worldGuardManager.isEnabled()){
-            if(worldGuardManager.isHandledByWorldGuard(location) && Constants.isWorldGuardEnabledFor(getType())) {
-                return worldGuardManager.isActionAllowed(player, location, permissionType);
+        if(worldGuardManager.isEnabled() && Constants.isWorldGuardEnabledFor(getType())){
+            EWorldGuardResult worldGuardResult = worldGuardManager.checkAction(player, location, permissionType);
+            if(worldGuardResult != EWorldGuardResult.NO_REGION) {
+                return worldGuardResult == EWorldGuardResult.PLAYER_CAN;
             }
         }
 
@@ -139,9 +141,12 @@ public abstract class ClaimedChunk2 {
 
     public abstract boolean canPVPHappen();
 
+    /**
+     * @return the chunk, or null if it is not currently loaded. This method never loads a chunk.
+     */
     public Chunk getChunk() {
         World world = Bukkit.getWorld(UUID.fromString(this.worldUUID));
-        if (world == null) {
+        if (world == null || !world.isChunkLoaded(x, z)) {
             return null;
         }
         return world.getChunkAt(x, z);
@@ -15,12 +15,13 @@ import org.leralix.tan.dataclass.ITanPlayer;
 import org.leralix.tan.dataclass.territory.RegionData;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.permission.ChunkPermission;
-import org.leralix.tan.dataclass.wars.CurrentAttack;
 import org.leralix.tan.dataclass.wars.GriefAllowed;
 import org.leralix.tan.enums.RolePermission;
 import org.leralix.tan.enums.permissions.ChunkPermissionType;
 import org.leralix.tan.enums.permissions.GeneralChunkSetting;
 import org.leralix.tan.lang.Lang;
+import org.leralix.tan.storage.CurrentAttacksStorage;
+import org.leralix.tan.storage.PermissionDecisionCache;
 import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
 import org.leralix.tan.storage.stored.PlayerDataStorage;
 import org.leralix.tan.storage.stored.RegionDataStorage;
@@ -45,27 +46,27 @@ public class RegionClaimedChunk extends ClaimedChunk2 {
     protected boolean canPlayerDoInternal(Player player, ChunkPermissionType permissionType, Location location) {
         ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(player);
 
-        //Location is in a property, and players own or rent it
         RegionData ownerRegion = getRegion();
+        if (PermissionDecisionCache.getInstance().isAllowed(tanPlayer, ownerRegion, permissionType,
+                () -> isAllowedByRegion(tanPlayer, ownerRegion, permissionType)))
+            return true;
+
+        playerCantPerformAction(player);
+        return false;
+    }
+
+    private static boolean isAllowedByRegion(ITanPlayer tanPlayer, RegionData ownerRegion, ChunkPermissionType permissionType) {
         //Chunk is claimed yet player has no town
-        if (!tanPlayer.hasTown()) {
-            playerCantPerformAction(player);
+        if (!tanPlayer.hasTown())
             return false;
-        }
 
         //Player is at war with the region
-        for (CurrentAttack currentAttacks : ownerRegion.getCurrentAttacks()) {
-            if (currentAttacks.containsPlayer(tanPlayer))
-                return true;
-        }
+        if (CurrentAttacksStorage.isFightingIn(tanPlayer.getID(), ownerRegion.getID()))
+            return true;
 
         //Player have the right to do the action
         ChunkPermission chunkPermission = ownerRegion.getPermission(permissionType);
-        if (chunkPermission.isAllowed(ownerRegion, tanPlayer))
-            return true;
-
-        playerCantPerformAction(player);
-        return false;
+        return chunkPermission.isAllowed(ownerRegion, tanPlayer);
     }
 
     public RegionData getRegion() {
@@ -18,13 +18,14 @@ import org.leralix.tan.dataclass.PropertyData;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.dataclass.territory.permission.ChunkPermission;
-import org.leralix.tan.dataclass.wars.CurrentAttack;
 import org.leralix.tan.dataclass.wars.GriefAllowed;
 import org.leralix.tan.enums.RolePermission;
 import org.leralix.tan.enums.TownRelation;
 import org.leralix.tan.enums.permissions.ChunkPermissionType;
 import org.leralix.tan.enums.permissions.GeneralChunkSetting;
 import org.leralix.tan.lang.Lang;
+import org.leralix.tan.storage.CurrentAttacksStorage;
+import org.leralix.tan.storage.PermissionDecisionCache;
 import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
 import org.leralix.tan.storage.stored.PlayerDataStorage;
 import org.leralix.tan.storage.stored.TownDataStorage;
@@ -63,24 +64,25 @@ public class TownClaimedChunk extends ClaimedChunk2 {
             }
         }
 
+        if (PermissionDecisionCache.getInstance().isAllowed(tanPlayer, ownerTown, permissionType,
+                () -> isAllowedByTown(tanPlayer, ownerTown, permissionType)))
+            return true;
+
+        playerCantPerformAction(player);
+        return false;
+    }
+
+    private static boolean isAllowedByTown(ITanPlayer tanPlayer, TownData ownerTown, ChunkPermissionType permissionType) {
         //Chunk is claimed yet player have no town
-        if (!tanPlayer.hasTown()) {
-            playerCantPerformAction(player);
+        if (!tanPlayer.hasTown())
             return false;
-        }
 
         //Player is at war with the town
-        for (CurrentAttack currentAttacks : ownerTown.getCurrentAttacks()) {
-            if (currentAttacks.containsPlayer(tanPlayer))
-                return true;
-        }
-
-        ChunkPermission chunkPermission = ownerTown.getPermission(permissionType);
-        if (chunkPermission.isAllowed(ownerTown, tanPlayer))
+        if (CurrentAttacksStorage.isFightingIn(tanPlayer.getID(), ownerTown.getID()))
             return true;
 
-        playerCantPerformAction(player);
-        return false;
+        ChunkPermission chunkPermission = ownerTown.getPermission(permissionType);
+        return chunkPermission.isAllowed(ownerTown, tanPlayer);
     }
 
 
@@ -105,7 +107,7 @@ public class TownClaimedChunk extends ClaimedChunk2 {
             return;
         }
 
-        for (PropertyData propertyData : getTown().getProperties()) {
+        for (PropertyData propertyData : getTown().getPropertiesInChunk(getX(), getZ())) {
             if (propertyData.isInChunk(this)) {
                 player.sendMessage(TanChatUtils.getTANString() + Lang.PROPERTY_IN_CHUNK.get(propertyData.getName()));
                 return;
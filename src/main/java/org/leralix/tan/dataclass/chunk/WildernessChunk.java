@@ -24,6 +24,10 @@ public class WildernessChunk extends ClaimedChunk2 {
         super(chunk, "wilderness");
     }
 
+    public WildernessChunk(int x, int z, String worldUUID) {
+        super(x, z, worldUUID, "wilderness");
+    }
+
     @Override
     protected boolean canPlayerDoInternal(Player player, ChunkPermissionType permissionType, Location location) {
 
@@ -73,6 +73,16 @@ public class RegionData extends TerritoryData {
         return regionId;
     }
 
+    @Override
+    protected void markDirtyInStorage() {
+        RegionDataStorage.getInstance().markDirty(getID());
+    }
+
+    @Override
+    protected void updateNameInStorage() {
+        RegionDataStorage.getInstance().updateName(this);
+    }
+
     @Override
     public String getOldName() {
         return regionName;
@@ -102,6 +112,7 @@ public class RegionData extends TerritoryData {
     @Override
     public void setLeaderID(String newLeaderID) {
         this.leaderID = newLeaderID;
+        markDirty();
     }
 
     @Override
@@ -143,7 +154,7 @@ public class RegionData extends TerritoryData {
     }
 
     @Override
-    public ItemStack getIconWithInformations(LangType langType) {
+    protected ItemStack buildIconWithInformations(LangType langType) {
         ItemStack icon = getIcon();
 
         ItemMeta meta = icon.getItemMeta();
@@ -163,6 +174,16 @@ public class RegionData extends TerritoryData {
         return icon;
     }
 
+    @Override
+    protected int getIconDependenciesVersion() {
+        // Capital name and player counts come from the towns of the region
+        int dependenciesVersion = 0;
+        for (TerritoryData town : getSubjects()) {
+            dependenciesVersion += town.getVersion();
+        }
+        return dependenciesVersion;
+    }
+
     public int getTotalPlayerCount() {
         int count = 0;
         for (TerritoryData town : getSubjects()) {
@@ -254,6 +275,7 @@ public class RegionData extends TerritoryData {
     @Override
     protected void addVassalPrivate(TerritoryData vassal) {
         townsInRegion.add(vassal.getID());
+        markDirty();
     }
 
 
@@ -263,6 +285,7 @@ public class RegionData extends TerritoryData {
 
     public void setCapital(String townID) {
         this.capitalID = townID;
+        markDirty();
     }
 
     @Override
@@ -300,6 +323,7 @@ public class RegionData extends TerritoryData {
 
         TownData town = TownDataStorage.getInstance().get(vassalID);
         townsInRegion.remove(vassalID);
+        markDirty();
 
         for (RankData rank : getRanks().values()) {
             for (String playerID : town.getPlayerIDList()) {
@@ -324,7 +348,7 @@ public class RegionData extends TerritoryData {
 
     public Collection<RegionClaimedChunk> getClaims() {
         Collection<RegionClaimedChunk> res = new ArrayList<>();
-        for (ClaimedChunk2 claimedChunk : NewClaimedChunkStorage.getInstance().getClaimedChunksMap().values()) {
+        for (ClaimedChunk2 claimedChunk : NewClaimedChunkStorage.getInstance().getAllChunkFrom(this)) {
             if (claimedChunk instanceof RegionClaimedChunk regionClaimedChunk && regionClaimedChunk.getOwnerID().equals(getID())) {
                 res.add(regionClaimedChunk);
             }
@@ -370,7 +394,6 @@ public class RegionData extends TerritoryData {
         super.delete();
         NewsletterStorage.register(new RegionDeletedNews(getLeaderData().getID(), this));
 
-        TeamUtils.updateAllScoreboardColor();
         RegionDataStorage.getInstance().deleteRegion(this);
     }
 
@@ -421,18 +444,13 @@ public class RegionData extends TerritoryData {
     }
 
     @Override
-    public List<GuiItem> getOrderedMemberList(ITanPlayer tanPlayer) {
-        List<GuiItem> res = new ArrayList<>();
-        for (String playerUUID : getOrderedPlayerIDList()) {
-            OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
-            ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
-            ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
-                    Lang.GUI_TOWN_MEMBER_DESC1.get(playerIterateData.getRegionRank().getColoredName()));
+    public GuiItem getMemberButton(ITanPlayer tanPlayer, String playerUUID) {
+        OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
+        ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
+        ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
+                Lang.GUI_TOWN_MEMBER_DESC1.get(playerIterateData.getRegionRank().getColoredName()));
 
-            GuiItem playerButton = ItemBuilder.from(playerHead).asGuiItem(event -> event.setCancelled(true));
-            res.add(playerButton);
-        }
-        return res;
+        return ItemBuilder.from(playerHead).asGuiItem(event -> event.setCancelled(true));
     }
 
     @Override
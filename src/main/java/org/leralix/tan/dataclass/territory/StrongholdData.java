@@ -28,15 +28,26 @@ public class StrongholdData {
     private int nbDefenders;
 
     public StrongholdData(ClaimedChunk2 claimedChunk) {
-        this.claimedChunk = new ChunkCoordinates(claimedChunk.getChunk());
+        this.claimedChunk = new ChunkCoordinates(claimedChunk.getX(), claimedChunk.getZ(), claimedChunk.getWorldUUID());
         this.controlledBy = AttackSide.DEFENDER;
         this.controlLevel = 0;
     }
 
+    /**
+     * @return the chunk of the stronghold, or null if it is not loaded
+     */
     public Chunk getClaimedChunk() {
         return claimedChunk.getChunk();
     }
 
+    public int getChunkX() {
+        return claimedChunk.getX();
+    }
+
+    public int getChunkZ() {
+        return claimedChunk.getZ();
+    }
+
 
     public void updateControl(CurrentAttack currentAttack){
         Collection<ITanPlayer> players = getPlayersInChunk();
@@ -81,7 +92,12 @@ public class StrongholdData {
     private Collection<ITanPlayer> getPlayersInChunk() {
 
         List<ITanPlayer> players = new ArrayList<>();
-        for(Entity entity : getClaimedChunk().getEntities()){
+        Chunk chunk = getClaimedChunk();
+        // No player can be in an unloaded chunk
+        if(chunk == null){
+            return players;
+        }
+        for(Entity entity : chunk.getEntities()){
             if(entity instanceof Player player){
                 players.add(PlayerDataStorage.getInstance().get(player));
             }
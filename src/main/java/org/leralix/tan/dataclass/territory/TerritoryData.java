@@ -44,6 +44,7 @@ import org.leralix.tan.newsletter.news.DiplomacyProposalNews;
 import org.leralix.tan.newsletter.news.TerritoryVassalAcceptedNews;
 import org.leralix.tan.newsletter.news.TerritoryVassalProposalNews;
 import org.leralix.tan.newsletter.storage.NewsletterStorage;
+import org.leralix.tan.storage.ClaimMapCache;
 import org.leralix.tan.storage.CurrentAttacksStorage;
 import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
 import org.leralix.tan.storage.stored.PlannedAttackStorage;
@@ -77,6 +78,16 @@ public abstract class TerritoryData {
     private ClaimedChunkSettings chunkSettings;
     private StrongholdData stronghold;
 
+    /**
+     * Incremented each time the territory is modified. Used to know when cached icons must be built again.
+     */
+    private transient int version;
+    private transient Map<LangType, CachedIcon> cachedIcons;
+    /**
+     * Incremented when translations are reloaded, invalidating every cached icon.
+     */
+    private static int iconGeneration = 0;
+
     protected TerritoryData(String id, String name, ITanPlayer owner){
         this.id = id;
         this.name = name;
@@ -104,6 +115,25 @@ public abstract class TerritoryData {
     }
 
     protected abstract String getOldID();
+
+    /**
+     * Mark the territory as modified, so it is written on the next save and its cached icons are built again.
+     */
+    public void markDirty() {
+        version++;
+        markDirtyInStorage();
+    }
+
+    protected abstract void markDirtyInStorage();
+
+    protected abstract void updateNameInStorage();
+
+    /**
+     * @return a number incremented each time the territory is modified
+     */
+    public int getVersion() {
+        return version;
+    }
     public String getID(){
         if(id == null)
             id = getOldID();
@@ -133,6 +163,9 @@ public abstract class TerritoryData {
 
     public void rename(String newName){
         this.name = newName;
+        markDirty();
+        updateNameInStorage();
+        ClaimMapCache.getInstance().invalidateOwner(getID());
     }
 
     public abstract int getHierarchyRank();
@@ -162,6 +195,7 @@ public abstract class TerritoryData {
     }
     public void setDescription(String newDescription){
         this.description = newDescription;
+        markDirty();
     }
     public ItemStack getIcon(){
         if(this.customIcon == null){
@@ -176,6 +210,7 @@ public abstract class TerritoryData {
     }
     public void setIcon(ICustomIcon icon){
         this.customIcon = icon;
+        markDirty();
     }
 
     public abstract Collection<String> getPlayerIDList();
@@ -192,7 +227,7 @@ public abstract class TerritoryData {
         return getPlayerIDList().contains(playerID);
     }
 
-    public Collection<String> getOrderedPlayerIDList(){
+    public List<String> getOrderedPlayerIDList(){
         List<String> sortedList = new ArrayList<>();
         List<ITanPlayer> ITanPlayerSorted = getITanPlayerList().stream()
                 .sorted(Comparator.comparingInt(tanPlayer -> -this.getRank(tanPlayer.getRankID(this)).getLevel()))
@@ -222,10 +257,12 @@ public abstract class TerritoryData {
 
         this.getRelations().setRelation(relation,otherTerritory);
         otherTerritory.getRelations().setRelation(relation,this);
+        markDirty();
+        otherTerritory.markDirty();
 
         NewsletterStorage.register(new DiplomacyAcceptedNews(getID(), otherTerritory.getID(), relation, actualRelation.isSuperiorTo(relation)));
 
-        TeamUtils.updateAllScoreboardColor();
+        TeamUtils.updateRelation(this, otherTerritory);
     }
 
 
@@ -240,9 +277,11 @@ public abstract class TerritoryData {
     }
     public void removeDiplomaticProposal(String proposingTerritoryID){
         getDiplomacyProposals().remove(proposingTerritoryID);
+        markDirty();
     }
     private void addDiplomaticProposal(TerritoryData proposingTerritory, TownRelation wantedRelation){
         getDiplomacyProposals().put(proposingTerritory.getID(), new DiplomacyProposal(proposingTerritory.getID(), getID(), wantedRelation));
+        markDirty();
         NewsletterStorage.register(new DiplomacyProposalNews(proposingTerritory.getID(), getID(), wantedRelation));
     }
 
@@ -288,7 +327,45 @@ public abstract class TerritoryData {
     public abstract boolean haveNoLeader();
 
     protected abstract ItemStack getIconWithName();
-    public abstract ItemStack getIconWithInformations(LangType langType);
+    /**
+     * Get the icon of the territory with its main information.
+     * The icon is cached by language and built again only once the territory, its claims or the territories
+     * displayed in its description have changed.
+     * @return a copy of the icon, free to be modified
+     */
+    public ItemStack getIconWithInformations(LangType langType) {
+        IconStamp stamp = new IconStamp(version, getIconDependenciesVersion(), getNumberOfClaimedChunk(), iconGeneration);
+        if (cachedIcons == null) {
+            cachedIcons = new EnumMap<>(LangType.class);
+        }
+        CachedIcon cachedIcon = cachedIcons.get(langType);
+        if (cachedIcon == null || !cachedIcon.stamp().equals(stamp)) {
+            cachedIcon = new CachedIcon(stamp, buildIconWithInformations(langType));
+            cachedIcons.put(langType, cachedIcon);
+        }
+        return cachedIcon.icon().clone();
+    }
+
+    protected abstract ItemStack buildIconWithInformations(LangType langType);
+
+    /**
+     * @return a number changing each time a territory displayed in the icon of this territory is modified
+     */
+    protected abstract int getIconDependenciesVersion();
+
+    /**
+     * Invalidate the cached icons of every territory. Used when translations are reloaded.
+     */
+    public static void invalidateAllIcons() {
+        iconGeneration++;
+    }
+
+    private record IconStamp(int version, int dependenciesVersion, int nbClaimedChunks, int generation) {
+    }
+
+    private record CachedIcon(IconStamp stamp, ItemStack icon) {
+    }
+
     public ItemStack getIconWithInformationAndRelation(TerritoryData territoryData, LangType langType){
         ItemStack icon = getIconWithInformations(langType);
 
@@ -322,10 +399,12 @@ public abstract class TerritoryData {
     }
     public void addPlannedAttack(PlannedAttack war){
         getAttacksInvolvedID().add(war.getID());
+        markDirty();
 
     }
     public void removePlannedAttack(PlannedAttack war){
         getAttacksInvolvedID().remove(war.getID());
+        markDirty();
 
     }
 
@@ -346,10 +425,12 @@ public abstract class TerritoryData {
 
     public void addCurrentAttack(CurrentAttack currentAttacks){
         getAttacksInvolvedID().add(currentAttacks.getId());
+        markDirty();
 
     }
     public void removeCurrentAttack(CurrentAttack currentAttacks){
         getAttacksInvolvedID().remove(currentAttacks.getId());
+        markDirty();
     }
 
     public abstract boolean atWarWith(String territoryID);
@@ -364,10 +445,12 @@ public abstract class TerritoryData {
 
     public void addToBalance(double balance) {
         this.treasury += balance;
+        markDirty();
     }
 
     public void removeFromBalance(double balance) {
         this.treasury -= balance;
+        markDirty();
     }
 
     protected abstract double getOldBalance();
@@ -378,7 +461,9 @@ public abstract class TerritoryData {
         broadcastMessageWithSound(Lang.ACCEPTED_VASSALISATION_PROPOSAL_ALL.get(this.getBaseColoredName(), overlord.getBaseColoredName()), SoundEnum.GOOD);
 
         this.overlordID = overlord.getID();
+        markDirty();
         overlord.addVassal(this);
+        CurrentAttacksStorage.updateMembershipIndex();
     }
 
     public TerritoryData getOverlord(){
@@ -394,6 +479,8 @@ public abstract class TerritoryData {
         getOverlord().removeVassal(this);
         removeOverlordPrivate();
         this.overlordID = null;
+        markDirty();
+        CurrentAttacksStorage.updateMembershipIndex();
     }
     public abstract void removeOverlordPrivate();
 
@@ -403,6 +490,7 @@ public abstract class TerritoryData {
         NewsletterStorage.register(new TerritoryVassalAcceptedNews(getID(), vassal.getID()));
         NewsletterStorage.removeVassalisationProposal(this, vassal);
         addVassalPrivate(vassal);
+        markDirty();
     }
     protected abstract void addVassalPrivate (TerritoryData vassal);
 
@@ -435,6 +523,8 @@ public abstract class TerritoryData {
 
     public void setChunkColor(int color) {
         this.color = color;
+        markDirty();
+        ClaimMapCache.getInstance().invalidateOwner(getID());
     }
 
     public boolean haveOverlord(){
@@ -450,11 +540,13 @@ public abstract class TerritoryData {
 
     public void addAvailableClaims(String territoryID, int amount){
         getAvailableEnemyClaims().merge(territoryID, amount, Integer::sum);
+        markDirty();
     }
     public void consumeEnemyClaim(String territoryID){
         getAvailableEnemyClaims().merge(territoryID, -1, Integer::sum);
         if(getAvailableEnemyClaims().get(territoryID) <= 0)
             getAvailableEnemyClaims().remove(territoryID);
+        markDirty();
     }
 
     public void claimChunk(Player player){
@@ -470,6 +562,7 @@ public abstract class TerritoryData {
 
     public void setStrongholdPosition(Chunk newChunk){
         this.stronghold.setPosition(newChunk);
+        markDirty();
     }
 
     public StrongholdData getStronghold(){
@@ -575,12 +668,14 @@ public abstract class TerritoryData {
 
     public void addVassalisationProposal(TerritoryData proposal){
         getOverlordsProposals().add(proposal.getID());
+        markDirty();
         broadcastMessageWithSound(Lang.REGION_DIPLOMATIC_INVITATION_RECEIVED_1.get(proposal.getBaseColoredName(), getBaseColoredName()), SoundEnum.MINOR_GOOD);
         NewsletterStorage.register(new TerritoryVassalProposalNews(proposal, this));
     }
 
     public void removeVassalisationProposal(TerritoryData proposal){
         getOverlordsProposals().remove(proposal.getID());
+        markDirty();
     }
 
     public boolean containsVassalisationProposal(TerritoryData proposal){
@@ -682,11 +777,13 @@ public abstract class TerritoryData {
 
         RankData newRank = new RankData(nextRankId, rankName);
         getRanks().put(nextRankId,newRank);
+        markDirty();
         return newRank;
     }
 
     public void removeRank(int key){
         getRanks().remove(key);
+        markDirty();
     }
 
     public int getDefaultRankID() {
@@ -701,9 +798,23 @@ public abstract class TerritoryData {
     }
     public void setDefaultRank(int rankID) {
         this.defaultRankID = rankID;
+        markDirty();
     }
 
-    public abstract List<GuiItem> getOrderedMemberList(ITanPlayer tanPlayer);
+    public List<GuiItem> getOrderedMemberList(ITanPlayer tanPlayer) {
+        List<GuiItem> res = new ArrayList<>();
+        for (String playerUUID : getOrderedPlayerIDList()) {
+            res.add(getMemberButton(tanPlayer, playerUUID));
+        }
+        return res;
+    }
+
+    /**
+     * Create the button of a member in the member list.
+     * @param tanPlayer  the player looking at the list
+     * @param playerUUID the member to display
+     */
+    public abstract GuiItem getMemberButton(ITanPlayer tanPlayer, String playerUUID);
 
 
     public boolean doesPlayerHavePermission(Player player, RolePermission townRolePermission) {
@@ -725,6 +836,7 @@ public abstract class TerritoryData {
         getRank(playerStat).removePlayer(playerStat);
         rankData.addPlayer(playerStat);
         specificSetPlayerRank(playerStat, rankData.getID());
+        markDirty();
     }
 
     protected abstract void specificSetPlayerRank(ITanPlayer playerStat, int rankID);
@@ -744,7 +856,7 @@ public abstract class TerritoryData {
     protected abstract void addSpecificTaxes(Budget budget);
 
     public int getNumberOfClaimedChunk(){
-        return NewClaimedChunkStorage.getInstance().getAllChunkFrom(this).size();
+        return NewClaimedChunkStorage.getInstance().getNumberOfChunkFrom(this);
     }
 
     public abstract double getChunkUpkeepCost();
@@ -756,6 +868,7 @@ public abstract class TerritoryData {
     }
     public void setTax(double newTax){
         baseTax = newTax;
+        markDirty();
     }
 
     public void addToTax(double i){
@@ -838,9 +951,11 @@ public abstract class TerritoryData {
 
     public void addToRentTax(double value) {
         propertyRentTax += value;
+        markDirty();
     }
     public void setRentRate(double amount) {
         propertyRentTax = amount;
+        markDirty();
     }
 
     public double getTaxOnBuyingProperty() {
@@ -851,10 +966,12 @@ public abstract class TerritoryData {
 
     public void addToBuyTax(double value) {
         propertyBuyTax += value;
+        markDirty();
     }
 
     public void setBuyRate(double amount) {
         propertyBuyTax = amount;
+        markDirty();
     }
 
 
@@ -870,6 +987,7 @@ public abstract class TerritoryData {
 
     public void nextPermission(ChunkPermissionType type) {
         getChunkSettings().nextPermission(type);
+        markDirty();
     }
 
     public boolean canTradeWith(TownData town) {
@@ -883,11 +1001,13 @@ public abstract class TerritoryData {
     protected void registerPlayer(ITanPlayer tanPlayer) {
         getDefaultRank().addPlayer(tanPlayer);
         tanPlayer.setRankID(this, getDefaultRankID());
+        markDirty();
     }
 
     protected void unregisterPlayer(ITanPlayer tanPlayer) {
         getRank(tanPlayer).removePlayer(tanPlayer);
         tanPlayer.setRankID(this, null);
+        markDirty();
     }
 
 
@@ -30,6 +30,7 @@ import org.leralix.tan.newsletter.news.PlayerJoinTownNews;
 import org.leralix.tan.newsletter.news.TownDeletedNews;
 import org.leralix.tan.newsletter.storage.NewsletterStorage;
 import org.leralix.tan.storage.ClaimBlacklistStorage;
+import org.leralix.tan.storage.CurrentAttacksStorage;
 import org.leralix.tan.storage.stored.*;
 import org.leralix.tan.utils.HeadUtils;
 import org.leralix.tan.utils.StringUtil;
@@ -65,6 +66,10 @@ public class TownData extends TerritoryData {
     private Collection<String> ownedLandmarks;
     private HashSet<String> PlayerJoinRequestSet;
     private Map<String, PropertyData> propertyDataMap;
+    /**
+     * Properties indexed by chunk. Built on first use, not saved.
+     */
+    private transient PropertyChunkIndex propertyIndex;
     private TeleportationPosition teleportationPosition;
     private final HashSet<String> townPlayerListId;
 
@@ -109,6 +114,16 @@ public class TownData extends TerritoryData {
         return townLevel;
     }
 
+    @Override
+    protected void markDirtyInStorage() {
+        TownDataStorage.getInstance().markDirty(getID());
+    }
+
+    @Override
+    protected void updateNameInStorage() {
+        TownDataStorage.getInstance().updateName(this);
+    }
+
     public void addPlayer(String tanPlayerID) {
         addPlayer(PlayerDataStorage.getInstance().get(tanPlayerID));
     }
@@ -129,8 +144,10 @@ public class TownData extends TerritoryData {
         }
 
         NewsletterStorage.register(new PlayerJoinTownNews(tanPlayer, this));
-        TeamUtils.updateAllScoreboardColor();
-        TownDataStorage.getInstance().saveStats();
+        TeamUtils.updatePlayerTown(tanPlayer);
+        CurrentAttacksStorage.updateMembershipIndex();
+        markDirty();
+        TownDataStorage.getInstance().saveChanges();
     }
 
     public void removePlayer(String tanPlayerID) {
@@ -145,7 +162,10 @@ public class TownData extends TerritoryData {
         getRank(tanPlayer).removePlayer(tanPlayer);
         townPlayerListId.remove(tanPlayer.getID());
         tanPlayer.leaveTown();
-        TownDataStorage.getInstance().saveStats();
+        TeamUtils.updatePlayerTown(tanPlayer);
+        CurrentAttacksStorage.updateMembershipIndex();
+        markDirty();
+        TownDataStorage.getInstance().saveChanges();
     }
 
     @Override
@@ -175,7 +195,7 @@ public class TownData extends TerritoryData {
     }
 
     @Override
-    public ItemStack getIconWithInformations(LangType langType) {
+    protected ItemStack buildIconWithInformations(LangType langType) {
         ItemStack icon = getIcon();
 
         ItemMeta meta = icon.getItemMeta();
@@ -195,6 +215,12 @@ public class TownData extends TerritoryData {
         return icon;
     }
 
+    @Override
+    protected int getIconDependenciesVersion() {
+        TerritoryData overlord = haveOverlord() ? getOverlord() : null;
+        return overlord == null ? 0 : overlord.getVersion();
+    }
+
 
     @Override
     public String getOldID() {
@@ -231,6 +257,7 @@ public class TownData extends TerritoryData {
     @Override
     public void setLeaderID(String leaderID) {
         this.UuidLeader = leaderID;
+        markDirty();
     }
 
 
@@ -315,10 +342,12 @@ public class TownData extends TerritoryData {
 
     public void addPlayerJoinRequest(String playerUUID) {
         this.PlayerJoinRequestSet.add(playerUUID);
+        markDirty();
     }
 
     public void removePlayerJoinRequest(String playerUUID) {
         PlayerJoinRequestSet.remove(playerUUID);
+        markDirty();
     }
 
     public void removePlayerJoinRequest(Player player) {
@@ -343,6 +372,7 @@ public class TownData extends TerritoryData {
 
     public void swapRecruiting() {
         this.isRecruiting = !this.isRecruiting;
+        markDirty();
     }
 
     @Override
@@ -377,6 +407,7 @@ public class TownData extends TerritoryData {
 
     public void setSpawn(Location location) {
         this.teleportationPosition = new TeleportationPosition(location);
+        markDirty();
     }
 
     public boolean isSpawnSet() {
@@ -501,55 +532,51 @@ public class TownData extends TerritoryData {
     }
 
     @Override
-    public List<GuiItem> getOrderedMemberList(ITanPlayer tanPlayer) {
+    public GuiItem getMemberButton(ITanPlayer tanPlayer, String playerUUID) {
         Player player = tanPlayer.getPlayer();
-        List<GuiItem> res = new ArrayList<>();
-        for (String playerUUID : getOrderedPlayerIDList()) {
-            OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
-            ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
-            ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
-                    Lang.GUI_TOWN_MEMBER_DESC1.get(playerIterateData.getTownRank().getColoredName()),
-                    Lang.GUI_TOWN_MEMBER_DESC2.get(StringUtil.formatMoney(EconomyUtil.getBalance(playerIterate))),
-                    doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER) ? Lang.GUI_TOWN_MEMBER_DESC3.get() : "");
-
-            GuiItem playerButton = ItemBuilder.from(playerHead).asGuiItem(event -> {
-                event.setCancelled(true);
-                if (event.getClick() == ClickType.RIGHT) {
-
-                    ITanPlayer kickedPlayer = PlayerDataStorage.getInstance().get(playerIterate);
-                    TownData townData = TownDataStorage.getInstance().get(tanPlayer);
-
-
-                    if (!doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER)) {
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get());
-                        return;
-                    }
-                    if (townData.getRank(kickedPlayer).isSuperiorTo(townData.getRank(tanPlayer))) {
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION_RANK_DIFFERENCE.get());
-                        return;
-                    }
-                    if (isLeader(kickedPlayer)) {
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.GUI_TOWN_MEMBER_CANT_KICK_LEADER.get());
-                        return;
-                    }
-                    if (tanPlayer.getID().equals(kickedPlayer.getID())) {
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.GUI_TOWN_MEMBER_CANT_KICK_YOURSELF.get());
-                        return;
-                    }
-
-                    PlayerGUI.openConfirmMenu(player, Lang.CONFIRM_PLAYER_KICKED.get(playerIterate.getName()),
-                            confirmAction -> {
-                                kickPlayer(playerIterate);
-                                new TerritoryMemberMenu(player, this).open();
-
-                            },
-                            p -> new TerritoryMemberMenu(player, this).open()
-                    );
+        OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
+        ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
+        ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
+                Lang.GUI_TOWN_MEMBER_DESC1.get(playerIterateData.getTownRank().getColoredName()),
+                Lang.GUI_TOWN_MEMBER_DESC2.get(StringUtil.formatMoney(EconomyUtil.getBalance(playerIterate))),
+                doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER) ? Lang.GUI_TOWN_MEMBER_DESC3.get() : "");
+
+        GuiItem playerButton = ItemBuilder.from(playerHead).asGuiItem(event -> {
+            event.setCancelled(true);
+            if (event.getClick() == ClickType.RIGHT) {
+
+                ITanPlayer kickedPlayer = PlayerDataStorage.getInstance().get(playerIterate);
+                TownData townData = TownDataStorage.getInstance().get(tanPlayer);
+
+
+                if (!doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER)) {
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get());
+                    return;
                 }
-            });
-            res.add(playerButton);
-        }
-        return res;
+                if (townData.getRank(kickedPlayer).isSuperiorTo(townData.getRank(tanPlayer))) {
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION_RANK_DIFFERENCE.get());
+                    return;
+                }
+                if (isLeader(kickedPlayer)) {
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.GUI_TOWN_MEMBER_CANT_KICK_LEADER.get());
+                    return;
+                }
+                if (tanPlayer.getID().equals(kickedPlayer.getID())) {
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.GUI_TOWN_MEMBER_CANT_KICK_YOURSELF.get());
+                    return;
+                }
+
+                PlayerGUI.openConfirmMenu(player, Lang.CONFIRM_PLAYER_KICKED.get(playerIterate.getName()),
+                        confirmAction -> {
+                            kickPlayer(playerIterate);
+                            new TerritoryMemberMenu(player, this).open();
+
+                        },
+                        p -> new TerritoryMemberMenu(player, this).open()
+                );
+            }
+        });
+        return playerButton;
     }
 
     @Override
@@ -588,8 +615,12 @@ public class TownData extends TerritoryData {
         String propertyID = nextPropertyID();
         String id = this.getID() + "_" + propertyID;
         PropertyData newProperty = new PropertyData(id, p1, p2, owner);
+        // Built before adding the property, otherwise a freshly built index would already contain it
+        PropertyChunkIndex index = getPropertyIndex();
         this.propertyDataMap.put(propertyID, newProperty);
+        index.add(newProperty);
         owner.addProperty(newProperty);
+        markDirty();
         return newProperty;
     }
 
@@ -597,8 +628,15 @@ public class TownData extends TerritoryData {
         return getPropertyDataMap().get(id);
     }
 
+    private PropertyChunkIndex getPropertyIndex() {
+        if (propertyIndex == null) {
+            propertyIndex = new PropertyChunkIndex(getProperties());
+        }
+        return propertyIndex;
+    }
+
     public PropertyData getProperty(Location location) {
-        for (PropertyData propertyData : getProperties()) {
+        for (PropertyData propertyData : getPropertyIndex().getProperties(Location.locToBlock(location.getX()) >> 4, Location.locToBlock(location.getZ()) >> 4)) {
             if (propertyData.containsLocation(location)) {
                 return propertyData;
             }
@@ -606,8 +644,18 @@ public class TownData extends TerritoryData {
         return null;
     }
 
+    /**
+     * @return the properties overlapping the chunk
+     */
+    public List<PropertyData> getPropertiesInChunk(int chunkX, int chunkZ) {
+        return getPropertyIndex().getProperties(chunkX, chunkZ);
+    }
+
     public void removeProperty(PropertyData propertyData) {
-        this.propertyDataMap.remove(propertyData.getPropertyID());
+        if (this.propertyDataMap.remove(propertyData.getPropertyID()) != null) {
+            getPropertyIndex().remove(propertyData);
+        }
+        markDirty();
     }
 
     public String getTownTag() {
@@ -618,6 +666,7 @@ public class TownData extends TerritoryData {
 
     public void setTownTag(String townTag) {
         this.townTag = townTag;
+        markDirty();
     }
 
     public String getColoredTag() {
@@ -626,7 +675,7 @@ public class TownData extends TerritoryData {
 
     public Collection<TownClaimedChunk> getClaims() {
         Collection<TownClaimedChunk> res = new ArrayList<>();
-        for (ClaimedChunk2 claimedChunk : NewClaimedChunkStorage.getInstance().getClaimedChunksMap().values()) {
+        for (ClaimedChunk2 claimedChunk : NewClaimedChunkStorage.getInstance().getAllChunkFrom(this)) {
             if (claimedChunk instanceof TownClaimedChunk townClaimedChunk && townClaimedChunk.getOwnerID().equals(getID())) {
                 res.add(townClaimedChunk);
             }
@@ -664,6 +713,7 @@ public class TownData extends TerritoryData {
 
         removeFromBalance(townLevel.getMoneyRequiredForLevelUp());
         townLevel.townLevelUp();
+        markDirty();
         SoundUtil.playSound(player, SoundEnum.LEVEL_UP);
         player.sendMessage(TanChatUtils.getTANString() + Lang.BASIC_LEVEL_UP.get());
     }
@@ -691,6 +741,7 @@ public class TownData extends TerritoryData {
 
         removeFromBalance(townUpgrade.getCost(townUpgradeLevel));
         level.levelUp(townUpgrade);
+        markDirty();
         SoundUtil.playSound(player, SoundEnum.LEVEL_UP);
         player.sendMessage(TanChatUtils.getTANString() + Lang.BASIC_LEVEL_UP.get());
     }
@@ -719,6 +770,7 @@ public class TownData extends TerritoryData {
 
     public void addLandmark(String landmarkID) {
         getOwnedLandmarksID().add(landmarkID);
+        markDirty();
     }
 
     public void addLandmark(Landmark landmark) {
@@ -728,6 +780,7 @@ public class TownData extends TerritoryData {
 
     public void removeLandmark(String landmarkID) {
         getOwnedLandmarksID().remove(landmarkID);
+        markDirty();
     }
 
     public void removeLandmark(Landmark landmark) {
@@ -740,7 +793,7 @@ public class TownData extends TerritoryData {
     }
 
     public boolean canClaimMoreLandmarks() {
-        return getLevel().getTotalBenefits().get("MAX_LANDMARKS") > getNumberOfOwnedLandmarks();
+        return getLevel().getBenefitsLevel("MAX_LANDMARKS") > getNumberOfOwnedLandmarks();
     }
 
 
@@ -781,7 +834,6 @@ public class TownData extends TerritoryData {
             removePlayer(playerID); // Modification sécurisée après la boucle
         }
 
-        TeamUtils.updateAllScoreboardColor();
         TownDataStorage.getInstance().deleteTown(this);
 
 
@@ -33,7 +33,15 @@ public class CurrentAttack {
     private static final int MIN_SCORE = 0;
 
     private static final int MAX_SCORE = 1000;
-    private long remainingTime;
+    /**
+     * Time at which the attack ends if no side won before, in milliseconds since epoch.
+     */
+    private final long endTime;
+    /**
+     * Remaining seconds currently displayed on the boss bar.
+     */
+    private long displayedRemainingSeconds = -1;
+    private boolean bossBarTitleOutdated = true;
     private final Collection<TerritoryData> attackers;
     private final Collection<TerritoryData> defenders;
     private BossBar bossBar;
@@ -48,10 +56,11 @@ public class CurrentAttack {
         this.defenders = defenders;
         this.originalTitle = "War start";
         long warDuration = ConfigUtil.getCustomConfig(ConfigTag.MAIN).getInt("WarDuration");
-        this.remainingTime = warDuration * 60 * 20;
+        this.endTime = System.currentTimeMillis() + warDuration * 60 * 1000;
         this.warGoal = warGoal;
 
         this.bossBar = Bukkit.createBossBar(this.originalTitle, BarColor.RED, BarStyle.SOLID);
+        this.bossBar.setProgress((double) score / MAX_SCORE);
         this.defenderStronghold = defenderStronghold;
         this.defenderStronghold.setHolderSide(AttackSide.DEFENDER);
         this.defenderStronghold.setControlLevel(0);
@@ -75,7 +84,7 @@ public class CurrentAttack {
                 }
             }
         }
-        startTimer();
+        WarScheduler.getInstance().register(this);
     }
 
 
@@ -91,14 +100,13 @@ public class CurrentAttack {
         return id;
     }
 
-    private void updateBossBar() {
-        long hours = remainingTime / 72000;
-        long minutes = (remainingTime % 72000) / 1200;
-        long seconds = (remainingTime % 1200) / 20;
+    private void updateBossBarTitle(long remainingSeconds) {
+        long hours = remainingSeconds / 3600;
+        long minutes = (remainingSeconds % 3600) / 60;
+        long seconds = remainingSeconds % 60;
         String timeString = String.format("%02d:%02d:%02d", hours, minutes, seconds);
 
         bossBar.setTitle(Lang.TITLE_ATTACK.get(originalTitle, timeString));
-        bossBar.setProgress((double) score / MAX_SCORE);
     }
 
 
@@ -168,7 +176,10 @@ public class CurrentAttack {
     }
 
     private void setBossBarTitle(String title) {
-        originalTitle = title;
+        if (!title.equals(originalTitle)) {
+            originalTitle = title;
+            bossBarTitleOutdated = true;
+        }
     }
 
     private void addScore(int score) {
@@ -179,7 +190,9 @@ public class CurrentAttack {
         if(this.score <= MIN_SCORE){
             this.score = MIN_SCORE;
         }
-        updateBossBar();
+        if (bossBar != null) {
+            bossBar.setProgress((double) this.score / MAX_SCORE);
+        }
     }
 
     private void attackerWin() {
@@ -230,29 +243,37 @@ public class CurrentAttack {
 
     public void addPlayer(ITanPlayer tanPlayer) {
         Player player = tanPlayer.getPlayer();
-        if(player != null && remainingTime > 0 && score > 0 && score < MAX_SCORE){
+        if(player != null && isOngoing(System.currentTimeMillis())){
             bossBar.addPlayer(player);
         }
     }
 
-    private void startTimer() {
-        BukkitRunnable timerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (remainingTime > 0 && score > 0 && score < MAX_SCORE) {
-                    remainingTime--;
-                    updateBossBar();
-                } else {
-                    if(score >= MAX_SCORE)
-                        attackerWin();
-                    else
-                        defenderWin();
-                    this.cancel();
-                    strongholdListener.stop();
-                }
+    private boolean isOngoing(long now) {
+        return now < endTime && score > MIN_SCORE && score < MAX_SCORE;
+    }
+
+    /**
+     * Update the attack, called regularly by the {@link WarScheduler}.
+     * The boss bar title is only updated when the displayed time or the title changes.
+     * @param now the current time, in milliseconds since epoch
+     * @return true if the attack is still ongoing, false if it just ended
+     */
+    boolean update(long now) {
+        if (isOngoing(now)) {
+            long remainingSeconds = (endTime - now + 999) / 1000;
+            if (remainingSeconds != displayedRemainingSeconds || bossBarTitleOutdated) {
+                displayedRemainingSeconds = remainingSeconds;
+                bossBarTitleOutdated = false;
+                updateBossBarTitle(remainingSeconds);
             }
-        };
-        timerTask.runTaskTimer(TownsAndNations.getPlugin(), 0, 1); // Exécute toutes les secondes
+            return true;
+        }
+        if(score >= MAX_SCORE)
+            attackerWin();
+        else
+            defenderWin();
+        strongholdListener.stop();
+        return false;
     }
 
 
@@ -272,13 +293,7 @@ public class CurrentAttack {
                     }
                 }
 
-                attackers.clear();
-                defenders.clear();
-                bossBar.removeAll();
-                bossBar = null;
-                id = null;
                 CurrentAttacksStorage.remove(CurrentAttack.this);
-
                 for(TerritoryData territoryData : attackers) {
                     territoryData.removeCurrentAttack(CurrentAttack.this);
                 }
@@ -286,25 +301,25 @@ public class CurrentAttack {
                     territoryData.removeCurrentAttack(CurrentAttack.this);
                 }
 
+                attackers.clear();
+                defenders.clear();
+                bossBar.removeAll();
+                bossBar = null;
+                id = null;
+
             }
         }.runTaskLater(TownsAndNations.getPlugin(),20L * 20); //Still showing the boss bar for 20s
     }
 
     public boolean containsPlayer(ITanPlayer tanPlayer) {
-        for(TerritoryData territoryData : attackers) {
-            if(territoryData.isPlayerIn(tanPlayer)){
-                return true;
-            }
-        }
-        for(TerritoryData territoryData : defenders) {
-            if(territoryData.isPlayerIn(tanPlayer)){
-                return true;
-            }
-        }
-        return false;
+        return CurrentAttacksStorage.isPlayerInAttack(id, tanPlayer.getID());
     }
 
 
+    public Collection<TerritoryData> getAttackers() {
+        return attackers;
+    }
+
     public Collection<TerritoryData> getDefenders() {
         return defenders;
     }
@@ -87,6 +87,11 @@ public class PlannedAttack {
 
     public void setAdminApproved(boolean isAdminApproved) {
         this.isAdminApproved = isAdminApproved;
+        markDirty();
+    }
+
+    private void markDirty() {
+        PlannedAttackStorage.markDirty(ID);
     }
 
     public Collection<ITanPlayer> getDefendingPlayers() {
@@ -166,9 +171,11 @@ public class PlannedAttack {
 
     public void addDefender(TerritoryData territory){
         defendersID.add(territory.getID());
+        markDirty();
     }
     public void addAttacker(TerritoryData territoryData){
         attackersID.add(territoryData.getID());
+        markDirty();
     }
 
 
@@ -286,6 +293,7 @@ public class PlannedAttack {
         //no need to check, it only removes if it is a part of it
         attackersID.remove(territoryID);
         defendersID.remove(territoryID);
+        markDirty();
     }
 
     public void defenderSurrendered() {
@@ -324,6 +332,7 @@ public class PlannedAttack {
 
     public void rename(String message) {
         this.name = message;
+        markDirty();
     }
 
     public StrongholdData getDefenderStronghold() {
@@ -0,0 +1,58 @@
+package org.leralix.tan.dataclass.wars;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.leralix.tan.TownsAndNations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives every current attack from a single repeating task.
+ * <p>
+ * Attacks compute their remaining time from their deadline, so the task does not need to run every tick.
+ * It only runs while at least one attack is ongoing.
+ */
+public class WarScheduler {
+
+    /**
+     * Ticks between two updates of the attacks.
+     */
+    private static final long UPDATE_PERIOD = 4;
+
+    private final List<CurrentAttack> attacks = new ArrayList<>();
+    private BukkitTask task;
+
+    private static WarScheduler instance;
+
+    private WarScheduler() {
+    }
+
+    public static synchronized WarScheduler getInstance() {
+        if (instance == null) {
+            instance = new WarScheduler();
+        }
+        return instance;
+    }
+
+    public void register(CurrentAttack currentAttack) {
+        attacks.add(currentAttack);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(TownsAndNations.getPlugin(), this::update, 0, UPDATE_PERIOD);
+        }
+    }
+
+    private void update() {
+        long now = System.currentTimeMillis();
+        // Ending an attack may start or end other attacks, iterate over a copy
+        for (CurrentAttack currentAttack : new ArrayList<>(attacks)) {
+            if (!currentAttack.update(now)) {
+                attacks.remove(currentAttack);
+            }
+        }
+        if (attacks.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.leralix.tan.economy;
+
+import org.leralix.tan.dataclass.ITanPlayer;
+
+/**
+ * Atomic operations on player balances.
+ * <p>
+ * Balances can be modified from any thread, for example by other plugins through Vault.
+ * Modifications of an account are serialized by a lock chosen among a fixed set of stripes from the account ID,
+ * so accounts do not contend with each other and no lock object is stored with the player.
+ * Reading a balance does not lock.
+ */
+public final class BalanceLedger {
+
+    private static final int NB_STRIPES = 64;
+    private static final Object[] LOCKS = new Object[NB_STRIPES];
+
+    static {
+        for (int i = 0; i < NB_STRIPES; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+
+    private BalanceLedger() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static Object getLock(ITanPlayer tanPlayer) {
+        String id = tanPlayer.getID();
+        int hash = id == null ? 0 : id.hashCode();
+        return LOCKS[Math.floorMod(hash, NB_STRIPES)];
+    }
+
+    public static double getBalance(ITanPlayer tanPlayer) {
+        return tanPlayer.getBalance();
+    }
+
+    public static void setBalance(ITanPlayer tanPlayer, double balance) {
+        synchronized (getLock(tanPlayer)) {
+            tanPlayer.setBalance(balance);
+        }
+    }
+
+    public static void deposit(ITanPlayer tanPlayer, double amount) {
+        synchronized (getLock(tanPlayer)) {
+            tanPlayer.setBalance(tanPlayer.getBalance() + amount);
+        }
+    }
+
+    /**
+     * Withdraw money from a player, even if their balance becomes negative.
+     */
+    public static void withdraw(ITanPlayer tanPlayer, double amount) {
+        synchronized (getLock(tanPlayer)) {
+            tanPlayer.setBalance(tanPlayer.getBalance() - amount);
+        }
+    }
+
+    /**
+     * Withdraw money from a player only if they have enough, as a single atomic operation.
+     * @return true if the money was withdrawn
+     */
+    public static boolean withdrawIfEnough(ITanPlayer tanPlayer, double amount) {
+        synchronized (getLock(tanPlayer)) {
+            double balance = tanPlayer.getBalance();
+            if (balance < amount) {
+                return false;
+            }
+            tanPlayer.setBalance(balance - amount);
+            return true;
+        }
+    }
+}
@@ -7,22 +7,30 @@ import org.leralix.tan.dataclass.ITanPlayer;
 public class TanEconomyStandalone extends AbstractTanEcon{
     @Override
     public double getBalance(ITanPlayer tanPlayer) {
-        return tanPlayer.getBalance();
+        return BalanceLedger.getBalance(tanPlayer);
     }
 
     @Override
     public boolean has(ITanPlayer tanPlayer, double amount) {
-        return getBalance(tanPlayer) > amount;
+        return getBalance(tanPlayer) >= amount;
+    }
+
+    /**
+     * Withdraw money only if the player has enough, as a single atomic operation.
+     * @return true if the money was withdrawn
+     */
+    public boolean withdrawIfEnough(ITanPlayer tanPlayer, double amount) {
+        return BalanceLedger.withdrawIfEnough(tanPlayer, amount);
     }
 
     @Override
     public void withdrawPlayer(ITanPlayer tanPlayer, double amount) {
-        tanPlayer.removeFromBalance(amount);
+        BalanceLedger.withdraw(tanPlayer, amount);
     }
 
     @Override
     public void depositPlayer(ITanPlayer tanPlayer, double amount) {
-        tanPlayer.addToBalance(amount);
+        BalanceLedger.deposit(tanPlayer, amount);
     }
 
     @Override
@@ -100,17 +100,17 @@ public class TanEconomyVault extends TanEconomyStandalone implements Economy {
 
     @Override
     public boolean has(OfflinePlayer offlinePlayer, double v) {
-        return getBalance(offlinePlayer) > v;
+        return getBalance(offlinePlayer) >= v;
     }
 
     @Override
     public boolean has(String s, String s1, double v) {
-        return getBalance(s) > v;
+        return getBalance(s) >= v;
     }
 
     @Override
     public boolean has(OfflinePlayer offlinePlayer, String s, double v) {
-        return getBalance(offlinePlayer) > v;
+        return getBalance(offlinePlayer) >= v;
     }
 
     @Override
@@ -122,12 +122,11 @@ public class TanEconomyVault extends TanEconomyStandalone implements Economy {
     public EconomyResponse withdrawPlayer(OfflinePlayer offlinePlayer, double v) {
         if(v < 0)
             return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative funds");
-        if(!has(offlinePlayer, v))
-            return new EconomyResponse(v, PlayerDataStorage.getInstance().get(offlinePlayer).getBalance(), EconomyResponse.ResponseType.FAILURE, "Player does not have enough money");
 
         ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(offlinePlayer);
-        tanPlayer.removeFromBalance((int) v);
-        return new EconomyResponse(v, tanPlayer.getBalance(), EconomyResponse.ResponseType.SUCCESS, "");
+        if(!withdrawIfEnough(tanPlayer, v))
+            return new EconomyResponse(v, BalanceLedger.getBalance(tanPlayer), EconomyResponse.ResponseType.FAILURE, "Player does not have enough money");
+        return new EconomyResponse(v, BalanceLedger.getBalance(tanPlayer), EconomyResponse.ResponseType.SUCCESS, "");
     }
 
     @Override
@@ -147,9 +146,12 @@ public class TanEconomyVault extends TanEconomyStandalone implements Economy {
 
     @Override
     public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, double v) {
+        if(v < 0)
+            return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative funds");
+
         ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(offlinePlayer);
-        tanPlayer.addToBalance((int) v);
-        return new EconomyResponse(v, tanPlayer.getBalance(), EconomyResponse.ResponseType.SUCCESS, "");
+        BalanceLedger.deposit(tanPlayer, v);
+        return new EconomyResponse(v, BalanceLedger.getBalance(tanPlayer), EconomyResponse.ResponseType.SUCCESS, "");
     }
 
     @Override
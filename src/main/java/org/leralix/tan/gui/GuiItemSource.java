@@ -0,0 +1,66 @@
+package org.leralix.tan.gui;
+
+import dev.triumphteam.gui.guis.GuiItem;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Items of an iterator menu, built only when they are displayed.
+ * <p>
+ * The source knows how many elements it contains without building their items, so a menu only builds
+ * the items of the page being displayed. Built items are kept, turning back to a page does not build them again.
+ * @param <T> type of the elements displayed
+ */
+public class GuiItemSource<T> {
+
+    private final List<T> elements;
+    private final Function<T, GuiItem> itemFactory;
+    private final GuiItem[] items;
+    private final boolean[] built;
+
+    private GuiItemSource(List<T> elements, Function<T, GuiItem> itemFactory) {
+        this.elements = elements;
+        this.itemFactory = itemFactory;
+        this.items = new GuiItem[elements.size()];
+        this.built = new boolean[elements.size()];
+    }
+
+    /**
+     * @param elements    the elements to display, in order
+     * @param itemFactory creates the item of an element. May return null if the element cannot be displayed
+     */
+    public static <T> GuiItemSource<T> of(List<T> elements, Function<T, GuiItem> itemFactory) {
+        return new GuiItemSource<>(elements, itemFactory);
+    }
+
+    public static GuiItemSource<GuiItem> of(List<GuiItem> items) {
+        return new GuiItemSource<>(items, Function.identity());
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * @return the item at the given index, built if needed. Null if the element cannot be displayed
+     */
+    public GuiItem get(int index) {
+        if (!built[index]) {
+            items[index] = itemFactory.apply(elements.get(index));
+            built[index] = true;
+        }
+        return items[index];
+    }
+
+    /**
+     * Build in advance the items between two indexes.
+     * @param fromIndex first index, inclusive
+     * @param toIndex   last index, exclusive. Indexes out of the source are ignored
+     */
+    public void prefetch(int fromIndex, int toIndex) {
+        for (int i = Math.max(0, fromIndex); i < Math.min(toIndex, size()); i++) {
+            get(i);
+        }
+    }
+}
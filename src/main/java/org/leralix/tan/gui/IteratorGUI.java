@@ -1,17 +1,26 @@
 package org.leralix.tan.gui;
 
 import dev.triumphteam.gui.guis.GuiItem;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.leralix.tan.TownsAndNations;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.utils.GuiUtil;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public abstract class IteratorGUI extends BasicGui {
 
     protected int page;
+    /**
+     * Item source of the displayed list. Kept when turning pages so items already built are not built again,
+     * created again on any other call to {@link #open()}.
+     */
+    private GuiItemSource<?> itemSource;
+    private boolean turningPage = false;
 
     protected IteratorGUI(Player player, Lang title, int rows) {
         super(player, title, rows);
@@ -29,16 +38,45 @@ public abstract class IteratorGUI extends BasicGui {
     }
 
     protected void iterator(List<GuiItem> itemList, Consumer<Player> onLeave, Material decorativeMaterial){
-        GuiUtil.createIterator(gui, itemList, page, player, onLeave, p -> previousPage(), p -> nextPage(), decorativeMaterial);
+        iterator(() -> GuiItemSource.of(itemList), onLeave, decorativeMaterial);
+    }
+
+    /**
+     * Display the current page of a lazily built list. Only the items of this page are built,
+     * the items of the next page are built on the next tick so turning the page is fast.
+     * @param itemSourceSupplier creates the item source, not called when turning pages
+     */
+    protected void iterator(Supplier<GuiItemSource<?>> itemSourceSupplier, Consumer<Player> onLeave, Material decorativeMaterial){
+        if (!turningPage || itemSource == null) {
+            itemSource = itemSourceSupplier.get();
+        }
+        GuiItemSource<?> displayedSource = itemSource;
+        GuiUtil.createIterator(gui, displayedSource, page, player, onLeave, p -> nextPage(), p -> previousPage(), decorativeMaterial);
+
+        int pageSize = (gui.getRows() - 1) * 9;
+        int nextPageStart = (page + 1) * pageSize;
+        if (nextPageStart < displayedSource.size()) {
+            Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(),
+                    () -> displayedSource.prefetch(nextPageStart, nextPageStart + pageSize));
+        }
     }
 
     protected void previousPage() {
         page--;
-        open();
+        turnPage();
     }
 
     protected void nextPage() {
         page++;
-        open();
+        turnPage();
+    }
+
+    private void turnPage() {
+        turningPage = true;
+        try {
+            open();
+        } finally {
+            turningPage = false;
+        }
     }
 }
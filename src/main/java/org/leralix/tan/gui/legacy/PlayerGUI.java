@@ -437,25 +437,28 @@ public class PlayerGUI {
     public static void openTownEconomicsHistory(Player player, TerritoryData territoryData, TransactionHistoryEnum transactionHistoryEnum, int page) {
         ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(player);
         Gui gui = GuiUtil.createChestGui(Lang.HEADER_HISTORY.get(tanPlayer), 6);
-        List<GuiItem> guiItems = new ArrayList<>();
+        int pageSize = (gui.getRows() - 1) * 9;
 
-        for (List<TransactionHistory> transactionHistory : TownsAndNations.getPlugin().getDatabaseHandler().getTransactionHistory(territoryData, transactionHistoryEnum)) {
-            ItemStack transactionIcon = HeadUtils.createCustomItemStack(Material.PAPER, ChatColor.GREEN + transactionHistory.get(0).getDate());
+        TownsAndNations.getPlugin().getDatabaseHandler().getTransactionHistory(territoryData, transactionHistoryEnum, page, pageSize)
+                .thenAccept(historyPage -> Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> {
+                    List<GuiItem> guiItems = new ArrayList<>();
 
-            for (TransactionHistory transaction : transactionHistory) {
-                HeadUtils.addLore(transactionIcon, transaction.addLoreLine());
-            }
-            guiItems.add(ItemBuilder.from(transactionIcon).asGuiItem(event -> event.setCancelled(true)));
-        }
+                    for (List<TransactionHistory> transactionHistory : historyPage.days()) {
+                        ItemStack transactionIcon = HeadUtils.createCustomItemStack(Material.PAPER, ChatColor.GREEN + transactionHistory.get(0).getDate());
 
-        Collections.reverse(guiItems);//newer first
+                        for (TransactionHistory transaction : transactionHistory) {
+                            HeadUtils.addLore(transactionIcon, transaction.addLoreLine());
+                        }
+                        guiItems.add(ItemBuilder.from(transactionIcon).asGuiItem(event -> event.setCancelled(true)));
+                    }
 
-        GuiUtil.createIterator(gui, guiItems, page, player,
-                p -> new TreasuryMenu(player, territoryData),
-                p -> openTownEconomicsHistory(player, territoryData, transactionHistoryEnum, page + 1),
-                p -> openTownEconomicsHistory(player, territoryData, transactionHistoryEnum, page - 1));
+                    GuiUtil.createIteratorPage(gui, guiItems, page, historyPage.lastPage(), player,
+                            p -> new TreasuryMenu(player, territoryData),
+                            p -> openTownEconomicsHistory(player, territoryData, transactionHistoryEnum, page + 1),
+                            p -> openTownEconomicsHistory(player, territoryData, transactionHistoryEnum, page - 1));
 
-        gui.open(player);
+                    gui.open(player);
+                }));
     }
 
     //Town level to rework
@@ -865,6 +868,7 @@ public class PlayerGUI {
                     return;
                 }
                 generalSettings.put(generalChunkSetting, !generalSettings.get(generalChunkSetting));
+                territoryData.markDirty();
                 SoundUtil.playSound(player, ADD);
                 openChunkGeneralSettings(player, territoryData);
             });
@@ -922,6 +926,7 @@ public class PlayerGUI {
                     SoundUtil.playSound(player, GOOD);
                     upgradeStatus.setUnlocked(true);
                 }
+                townData.markDirty();
 
                 openTownChunkMobSettings(player, page);
 
@@ -957,6 +962,7 @@ public class PlayerGUI {
                 }
                 if (event.isRightClick()) {
                     territoryData.getPermission(type).removeSpecificPlayerPermission(authorizedPlayerID);
+                    territoryData.markDirty();
                     openPlayerListForChunkPermission(player, territoryData, type, page);
                 }
             });
@@ -1010,6 +1016,7 @@ public class PlayerGUI {
                     return;
                 }
                 territoryData.getPermission(type).addSpecificPlayerPermission(playerToAdd.getUniqueId().toString());
+                territoryData.markDirty();
                 openPlayerListForChunkPermission(player, territoryData, type, 0);
                 SoundUtil.playSound(player, ADD);
 
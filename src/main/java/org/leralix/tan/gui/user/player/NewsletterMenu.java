@@ -1,17 +1,16 @@
 package org.leralix.tan.gui.user.player;
 
 import dev.triumphteam.gui.guis.GuiItem;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.leralix.tan.gui.BasicGui;
+import org.leralix.tan.gui.GuiItemSource;
 import org.leralix.tan.gui.IteratorGUI;
 import org.leralix.tan.gui.cosmetic.IconKey;
 import org.leralix.tan.gui.cosmetic.IconManager;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.newsletter.NewsletterScope;
 import org.leralix.tan.newsletter.storage.NewsletterStorage;
-import org.leralix.tan.utils.GuiUtil;
-
-import java.util.List;
 
 public class NewsletterMenu extends IteratorGUI {
 
@@ -25,10 +24,9 @@ public class NewsletterMenu extends IteratorGUI {
     @Override
     public void open() {
 
-        GuiUtil.createIterator(gui, getNewsletters(), page, player,
+        iterator(this::getNewsletters,
                 p -> new PlayerMenu(player),
-                p -> nextPage(),
-                p -> previousPage()
+                Material.GRAY_STAINED_GLASS_PANE
         );
 
         gui.setItem(6,4, getMarkAllAsReadButton());
@@ -37,8 +35,9 @@ public class NewsletterMenu extends IteratorGUI {
         gui.open(player);
     }
 
-    private List<GuiItem> getNewsletters() {
-        return NewsletterStorage.getNewsletterForPlayer(player, scope, p -> open());
+    private GuiItemSource<?> getNewsletters() {
+        return GuiItemSource.of(NewsletterStorage.getNewslettersForPlayer(player, scope),
+                newsletter -> NewsletterStorage.createGuiItem(newsletter, player, scope, p -> open()));
     }
 
     private GuiItem getMarkAllAsReadButton() {
@@ -57,6 +57,7 @@ public class ManageRankPermissionMenu extends IteratorGUI {
                                 return;
                             }
                             rankData.switchPermission(permission);
+                            territoryData.markDirty();
                             open();
                         })
                         .asGuiItem(player));
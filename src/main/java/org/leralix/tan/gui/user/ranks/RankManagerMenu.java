@@ -129,6 +129,7 @@ public class RankManagerMenu extends BasicGui {
                         Lang.GUI_GENERIC_CLICK_TO_MODIFY.get(tanPlayer))
                 .setAction(event -> {
                     rankData.swapPayingTaxes();
+                    territoryData.markDirty();
                     SoundUtil.playSound(player, ADD);
                     open();
                 })
@@ -158,6 +159,7 @@ public class RankManagerMenu extends BasicGui {
                     int amountToAdd = event.isShiftClick() ? 10 : 1;
 
                     rankData.addFromSalary(amountToAdd);
+                    territoryData.markDirty();
                     SoundUtil.playSound(player, ADD);
                     open();
                 })
@@ -191,6 +193,7 @@ public class RankManagerMenu extends BasicGui {
                     }
 
                     rankData.removeFromSalary(amountToRemove);
+                    territoryData.markDirty();
                     SoundUtil.playSound(player, REMOVE);
                     open();
                 })
@@ -234,6 +237,7 @@ public class RankManagerMenu extends BasicGui {
                         rankData.decrementLevel();
                         SoundUtil.playSound(player, REMOVE);
                     }
+                    territoryData.markDirty();
                     open();
                 })
                 .asGuiItem(player);
@@ -251,6 +255,7 @@ public class RankManagerMenu extends BasicGui {
                         return;
                     }
                     rankData.setRankIcon(itemMaterial);
+                    territoryData.markDirty();
                     open();
                     player.sendMessage(TanChatUtils.getTANString() + Lang.GUI_TOWN_MEMBERS_ROLE_CHANGED_ICON_SUCCESS.get(tanPlayer));
                 })
@@ -2,16 +2,17 @@ package org.leralix.tan.gui.user.territory;
 
 import dev.triumphteam.gui.builder.item.ItemBuilder;
 import dev.triumphteam.gui.guis.GuiItem;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.enums.BrowseScope;
+import org.leralix.tan.gui.GuiItemSource;
 import org.leralix.tan.gui.IteratorGUI;
 import org.leralix.tan.gui.cosmetic.IconKey;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.storage.stored.RegionDataStorage;
 import org.leralix.tan.storage.stored.TownDataStorage;
-import org.leralix.tan.utils.GuiUtil;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,10 +40,7 @@ public class BrowseTerritoryMenu extends IteratorGUI {
     @Override
     public void open() {
 
-        GuiUtil.createIterator(gui, getTerritory(), page, player,
-                exitMenu,
-                p -> nextPage(),
-                p -> previousPage());
+        iterator(this::getTerritory, exitMenu, Material.GRAY_STAINED_GLASS_PANE);
 
         gui.setItem(6, 5, getScopeButton());
 
@@ -58,7 +56,7 @@ public class BrowseTerritoryMenu extends IteratorGUI {
                 .asGuiItem(player);
     }
 
-    private List<GuiItem> getTerritory() {
+    private GuiItemSource<?> getTerritory() {
         List<TerritoryData> territoryList = new ArrayList<>();
 
         if(scope == BrowseScope.ALL || scope == BrowseScope.TOWNS)
@@ -66,14 +64,9 @@ public class BrowseTerritoryMenu extends IteratorGUI {
         if(scope == BrowseScope.ALL || scope == BrowseScope.REGIONS)
             territoryList.addAll(RegionDataStorage.getInstance().getAll());
 
-        ArrayList<GuiItem> townGuiItems = new ArrayList<>();
-
-        for(TerritoryData specificTerritoryData : territoryList){
+        return GuiItemSource.of(territoryList, specificTerritoryData -> {
             ItemStack territoryIcon = specificTerritoryData.getIconWithInformationAndRelation(territoryData, tanPlayer.getLang());
-            GuiItem territoryGUI = ItemBuilder.from(territoryIcon).asGuiItem();
-
-            townGuiItems.add(territoryGUI);
-        }
-        return townGuiItems;
+            return ItemBuilder.from(territoryIcon).asGuiItem();
+        });
     }
 }
@@ -11,16 +11,15 @@ import org.leralix.lib.utils.SoundUtil;
 import org.leralix.tan.dataclass.ITanPlayer;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.enums.RolePermission;
+import org.leralix.tan.gui.GuiItemSource;
 import org.leralix.tan.gui.IteratorGUI;
 import org.leralix.tan.lang.Lang;
 import org.leralix.tan.newsletter.storage.NewsletterStorage;
 import org.leralix.tan.storage.stored.PlayerDataStorage;
-import org.leralix.tan.utils.GuiUtil;
 import org.leralix.tan.utils.HeadUtils;
 import org.leralix.tan.utils.TanChatUtils;
 
 import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 import static org.leralix.lib.data.SoundEnum.NOT_ALLOWED;
@@ -37,54 +36,51 @@ public class PlayerApplicationMenu extends IteratorGUI {
     @Override
     public void open() {
 
-        GuiUtil.createIterator(gui, getApplicationList(), page, player,
+        iterator(this::getApplicationList,
                 p -> new TerritoryMemberMenu(player, townData).open(),
-                p -> nextPage(),
-                p -> previousPage(),
                 Material.LIME_STAINED_GLASS_PANE
         );
         gui.open(player);
     }
 
-    private List<GuiItem> getApplicationList() {
-        List<GuiItem> guiItems = new ArrayList<>();
-        for (String playerUUID: townData.getPlayerJoinRequestSet()) {
+    private GuiItemSource<?> getApplicationList() {
+        return GuiItemSource.of(new ArrayList<>(townData.getPlayerJoinRequestSet()), this::getApplicationButton);
+    }
 
-            OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
-            ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
+    private GuiItem getApplicationButton(String playerUUID) {
+        OfflinePlayer playerIterate = Bukkit.getOfflinePlayer(UUID.fromString(playerUUID));
+        ITanPlayer playerIterateData = PlayerDataStorage.getInstance().get(playerUUID);
 
-            ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
-                    Lang.GUI_PLAYER_ASK_JOIN_PROFILE_DESC2.get(tanPlayer),
-                    Lang.GUI_PLAYER_ASK_JOIN_PROFILE_DESC3.get(tanPlayer));
+        ItemStack playerHead = HeadUtils.getPlayerHead(playerIterate,
+                Lang.GUI_PLAYER_ASK_JOIN_PROFILE_DESC2.get(tanPlayer),
+                Lang.GUI_PLAYER_ASK_JOIN_PROFILE_DESC3.get(tanPlayer));
 
-            GuiItem playerButton = ItemBuilder.from(playerHead).asGuiItem(event -> {
-                event.setCancelled(true);
-                if(event.isLeftClick()){
-                    if(!townData.doesPlayerHavePermission(tanPlayer, RolePermission.INVITE_PLAYER)){
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get(tanPlayer));
-                        SoundUtil.playSound(player, NOT_ALLOWED);
-                        return;
-                    }
-                    if(townData.isFull()){
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.INVITATION_TOWN_FULL.get(tanPlayer));
-                        SoundUtil.playSound(player, NOT_ALLOWED);
-                        return;
-                    }
-                    townData.addPlayer(playerIterateData);
+        GuiItem playerButton = ItemBuilder.from(playerHead).asGuiItem(event -> {
+            event.setCancelled(true);
+            if(event.isLeftClick()){
+                if(!townData.doesPlayerHavePermission(tanPlayer, RolePermission.INVITE_PLAYER)){
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get(tanPlayer));
+                    SoundUtil.playSound(player, NOT_ALLOWED);
+                    return;
+                }
+                if(townData.isFull()){
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.INVITATION_TOWN_FULL.get(tanPlayer));
+                    SoundUtil.playSound(player, NOT_ALLOWED);
+                    return;
                 }
-                else if(event.isRightClick()){
-                    if(!townData.doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER)){
-                        player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get(tanPlayer));
-                        return;
-                    }
-                    townData.removePlayerJoinRequest(playerIterateData.getID());
+                townData.addPlayer(playerIterateData);
+            }
+            else if(event.isRightClick()){
+                if(!townData.doesPlayerHavePermission(tanPlayer, RolePermission.KICK_PLAYER)){
+                    player.sendMessage(TanChatUtils.getTANString() + Lang.PLAYER_NO_PERMISSION.get(tanPlayer));
+                    return;
                 }
-                NewsletterStorage.removePlayerJoinRequest(playerIterateData, townData);
-                open();
-            });
-            guiItems.add(playerButton);
-        }
-        return guiItems;
+                townData.removePlayerJoinRequest(playerIterateData.getID());
+            }
+            NewsletterStorage.removePlayerJoinRequest(playerIterateData, townData);
+            open();
+        });
+        return playerButton;
     }
 
 }
@@ -5,13 +5,11 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.TownData;
+import org.leralix.tan.gui.GuiItemSource;
 import org.leralix.tan.gui.IteratorGUI;
 import org.leralix.tan.gui.cosmetic.IconKey;
 import org.leralix.tan.gui.cosmetic.IconManager;
 import org.leralix.tan.lang.Lang;
-import org.leralix.tan.utils.GuiUtil;
-
-import java.util.List;
 
 public class TerritoryMemberMenu extends IteratorGUI {
 
@@ -25,10 +23,8 @@ public class TerritoryMemberMenu extends IteratorGUI {
 
     @Override
     public void open() {
-        GuiUtil.createIterator(gui, getMemberList(), page, player,
+        iterator(this::getMemberList,
                 p -> territoryData.openMainMenu(player),
-                p -> nextPage(),
-                p -> previousPage(),
                 Material.LIME_STAINED_GLASS_PANE
         );
 
@@ -39,8 +35,8 @@ public class TerritoryMemberMenu extends IteratorGUI {
         gui.open(player);
     }
 
-    private List<GuiItem> getMemberList() {
-        return territoryData.getOrderedMemberList(tanPlayer);
+    private GuiItemSource<?> getMemberList() {
+        return GuiItemSource.of(territoryData.getOrderedPlayerIDList(), playerID -> territoryData.getMemberButton(tanPlayer, playerID));
     }
 
     private GuiItem getManageRankButton() {
@@ -59,8 +59,8 @@ public class WarMenu extends IteratorGUI {
             description.add(Lang.GUI_NO_STRONGHOLD.get(tanPlayer));
         }
         else {
-            int x = territoryStronghold.getClaimedChunk().getX() * 16 + 8;
-            int z = territoryStronghold.getClaimedChunk().getZ() * 16 + 8;
+            int x = territoryStronghold.getChunkX() * 16 + 8;
+            int z = territoryStronghold.getChunkZ() * 16 + 8;
             description.add(Lang.GUI_STRONGHOLD_LOCATION.get(tanPlayer, x,z));
             description.add(Lang.GUI_GENERIC_CLICK_TO_MODIFY.get(tanPlayer));
         }
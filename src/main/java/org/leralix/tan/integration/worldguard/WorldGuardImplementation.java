@@ -11,6 +11,7 @@ import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flags;
 import com.sk89q.worldguard.protection.flags.StateFlag;
 import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
@@ -48,24 +49,36 @@ public class WorldGuardImplementation {
         return EWorldGuardResult.PLAYER_CANNOT;
     }
 
-    public boolean isActionAllowed(Player player, Location location, ChunkPermissionType actionType) {
-
-        StateFlag flag = getFlagForAction(actionType);
-        com.sk89q.worldedit.util.Location weLocation = BukkitAdapter.adapt(location);
-        LocalPlayer localPlayer = WorldGuardPlugin.inst().wrapPlayer(player);
-
+    /**
+     * Resolve the regions at a location once and test the flag of the action against them.
+     */
+    public EWorldGuardResult checkAction(Player player, Location location, ChunkPermissionType actionType) {
         RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
         RegionQuery query = container.createQuery();
-        return query.testState(weLocation, localPlayer, flag);
-    }
+        ApplicableRegionSet regionSet = query.getApplicableRegions(BukkitAdapter.adapt(location));
+        if (regionSet.size() == 0) {
+            return EWorldGuardResult.NO_REGION;
+        }
 
-    public boolean isHandledByWorldGuard(Location location) {
-        com.sk89q.worldedit.util.Location weLocation = BukkitAdapter.adapt(location);
-        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-        RegionQuery query = container.createQuery();
+        LocalPlayer localPlayer = WorldGuardPlugin.inst().wrapPlayer(player);
+        if (regionSet.testState(localPlayer, getFlagForAction(actionType))) {
+            return EWorldGuardResult.PLAYER_CAN;
+        }
+        return EWorldGuardResult.PLAYER_CANNOT;
+    }
 
-        ApplicableRegionSet regionSet = query.getApplicableRegions(weLocation);
-        return regionSet.size() > 0;
+    /**
+     * @return true if at least one region, other than the global region, intersects the chunk
+     */
+    public boolean hasRegionsInChunk(org.bukkit.World world, int chunkX, int chunkZ) {
+        RegionManager manager = WorldGuard.getInstance().getPlatform().getRegionContainer().get(BukkitAdapter.adapt(world));
+        if (manager == null) {
+            return false;
+        }
+        BlockVector3 min = BlockVector3.at(chunkX << 4, world.getMinHeight(), chunkZ << 4);
+        BlockVector3 max = BlockVector3.at((chunkX << 4) + 15, world.getMaxHeight() - 1, (chunkZ << 4) + 15);
+        ProtectedRegion chunkArea = new ProtectedCuboidRegion("tan_chunk", true, min, max);
+        return manager.getApplicableRegions(chunkArea).size() > 0;
     }
 
     private StateFlag getFlagForAction(ChunkPermissionType actionType) {
@@ -1,13 +1,34 @@
 package org.leralix.tan.integration.worldguard;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.leralix.tan.TownsAndNations;
 import org.leralix.tan.enums.permissions.ChunkPermissionType;
+import org.leralix.tan.utils.ChunkUtil;
+import org.leralix.tan.utils.LongObjectMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 public class WorldGuardManager {
 
+    /**
+     * Ticks between two refreshes of the chunks known to contain regions.
+     * WorldGuard fires no event when regions are created, edited or removed.
+     */
+    private static final long REGION_CACHE_DURATION = 1200L;
+
     private WorldGuardImplementation implementation;
 
+    /**
+     * Whether each chunk contains at least one WorldGuard region, by world and chunk.
+     * Chunks without regions skip WorldGuard queries entirely.
+     */
+    private final Map<UUID, LongObjectMap<Boolean>> chunksWithRegions = new HashMap<>();
+
     private static WorldGuardManager instance;
 
     private WorldGuardManager(){
@@ -23,21 +44,44 @@ public class WorldGuardManager {
 
     public void register(){
         implementation = new WorldGuardImplementation();
+        Bukkit.getScheduler().runTaskTimer(TownsAndNations.getPlugin(), this::clearCache, REGION_CACHE_DURATION, REGION_CACHE_DURATION);
     }
 
     public boolean isEnabled() {
         return implementation != null;
     }
 
-    public boolean isHandledByWorldGuard(Location location){
-        if(!isEnabled())
-            return false;
-        return implementation.isHandledByWorldGuard(location);
+    /**
+     * Check if WorldGuard allows an action, with a single region query.
+     * @return {@link EWorldGuardResult#NO_REGION} if no region handles the location
+     */
+    public EWorldGuardResult checkAction(Player player, Location location, ChunkPermissionType actionType){
+        if(!isEnabled() || !hasRegionsInChunk(location))
+            return EWorldGuardResult.NO_REGION;
+        return implementation.checkAction(player, location, actionType);
     }
 
-    public boolean isActionAllowed(Player player, Location location, ChunkPermissionType actionType){
-        if(!isEnabled())
+    private boolean hasRegionsInChunk(Location location){
+        World world = location.getWorld();
+        if(world == null)
             return false;
-        return implementation.isActionAllowed(player, location, actionType);
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        long key = ChunkUtil.getChunkKey(chunkX, chunkZ);
+
+        LongObjectMap<Boolean> worldChunks = chunksWithRegions.computeIfAbsent(world.getUID(), k -> new LongObjectMap<>());
+        Boolean hasRegions = worldChunks.get(key);
+        if(hasRegions == null){
+            hasRegions = implementation.hasRegionsInChunk(world, chunkX, chunkZ);
+            worldChunks.put(key, hasRegions);
+        }
+        return hasRegions;
+    }
+
+    /**
+     * Forget which chunks contain regions, so region changes are taken into account.
+     */
+    public void clearCache(){
+        chunksWithRegions.clear();
     }
 }
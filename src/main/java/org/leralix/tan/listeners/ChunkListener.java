@@ -3,12 +3,10 @@ package org.leralix.tan.listeners;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.Tag;
 import org.bukkit.block.BlastFurnace;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
 import org.bukkit.block.Smoker;
-import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -78,14 +76,10 @@ public class ChunkListener implements Listener {
         if (block == null)
             return;
 
-        BlockData blockData = block.getBlockData();
         Material materialType = block.getType();
-        Material materialBlock = blockData.getMaterial();
-
-        Location loc = block.getLocation();
 
         //Check if the block is a property sign
-        if (block.getType() == Material.OAK_SIGN) {
+        if (materialType == Material.OAK_SIGN) {
             Sign sign = (Sign) block.getState();
             if (sign.hasMetadata("propertySign")) {
                 event.setCancelled(true);
@@ -93,96 +87,38 @@ public class ChunkListener implements Listener {
             }
         }
 
-        if(Tag.BUTTONS.isTagged(materialType) ||
-                materialBlock == Material.LEVER){
-
-            if(!canPlayerDoAction(loc, event.getPlayer(), ChunkPermissionType.INTERACT_BUTTON)){
-                event.setCancelled(true);
-            }
-        }
-
-        else if(materialBlock == Material.CHEST ||
-                materialBlock == Material.TRAPPED_CHEST ||
-                materialBlock == Material.BARREL ||
-                materialBlock == Material.HOPPER ||
-                materialBlock == Material.DISPENSER ||
-                materialBlock == Material.DROPPER ||
-                materialBlock == Material.BREWING_STAND ||
-                materialBlock == Material.SHULKER_BOX){
-
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_CHEST)){
-                event.setCancelled(true);
-            }
-        }
-        else if(
-                Tag.DOORS.isTagged(materialType) ||
-                Tag.TRAPDOORS.isTagged(materialType) ||
-                Tag.FENCE_GATES.isTagged(materialType)){
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_DOOR)){
-                event.setCancelled(true);
-            }
-        }
-        else if (
-                Tag.CANDLES.isTagged(materialType) ||
-                Tag.CANDLE_CAKES.isTagged(materialType) ||
-                Tag.FLOWER_POTS.isTagged(materialType) ||
-                Tag.CAULDRONS.isTagged(materialType) ||
-                materialBlock == Material.COMPOSTER ||
-                Tag.ALL_SIGNS.isTagged(materialType) ||
-                materialBlock == Material.CHISELED_BOOKSHELF ||
-                Tag.CAMPFIRES.isTagged(materialType) ||
-                materialBlock == Material.BEACON
-
-        ) {
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_DECORATIVE_BLOCK)){
-                event.setCancelled(true);
-            }
-        }
-        else if (
-                materialBlock == Material.JUKEBOX ||
-                materialBlock == Material.NOTE_BLOCK
-        ) {
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_MUSIC_BLOCK)){
-                event.setCancelled(true);
-            }
-        }
-        else if (
-                materialBlock == Material.REDSTONE_WIRE ||
-                materialBlock == Material.REPEATER ||
-                materialBlock == Material.COMPARATOR ||
-                materialBlock == Material.DAYLIGHT_DETECTOR) {
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_REDSTONE)){
-                event.setCancelled(true);
-            }
-        }
-
-        else if(event.getItem() != null && event.getItem().getType() == Material.BONE_MEAL){
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.USE_BONE_MEAL)){
-                event.setCancelled(true);
-            }
-        }
-
-        else if (event.getAction() == Action.RIGHT_CLICK_BLOCK && event.getClickedBlock() != null && event.getClickedBlock().getType() == Material.SWEET_BERRY_BUSH){
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_BERRIES))
-                event.setCancelled(true);
-        }
-        else if ((event.getAction() == Action.RIGHT_CLICK_AIR || event.getAction() == Action.RIGHT_CLICK_BLOCK) && player.getItemInHand().getType() == Material.OAK_BOAT) {
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_BOAT))
-                event.setCancelled(true);
-        }
-        else if((event.getAction() == Action.RIGHT_CLICK_AIR || event.getAction() == Action.RIGHT_CLICK_BLOCK) && (player.getItemInHand().getType() == Material.MINECART)){
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.INTERACT_MINECART))
-                event.setCancelled(true);
+        ChunkPermissionType permissionType = InteractionPermissionTable.get(materialType);
+        if (permissionType == null) {
+            permissionType = getItemOrActionPermission(event, player, materialType);
+            if (permissionType == null)
+                return;
         }
 
-        else if (event.getAction() == Action.PHYSICAL &&
-                (event.getClickedBlock().getType() == Material.FARMLAND )){
-
-            if(!canPlayerDoAction(loc, player, ChunkPermissionType.BREAK_BLOCK)){
-                event.setCancelled(true);
-            }
+        if(!canPlayerDoAction(block.getLocation(), player, permissionType)){
+            event.setCancelled(true);
         }
+    }
 
+    /**
+     * Get the permission needed for an interaction depending on the item used or the action,
+     * when the clicked block itself is not protected.
+     * @return the permission needed, or null if the interaction is not protected
+     */
+    private static ChunkPermissionType getItemOrActionPermission(PlayerInteractEvent event, Player player, Material materialType) {
+        Action action = event.getAction();
+        boolean rightClick = action == Action.RIGHT_CLICK_AIR || action == Action.RIGHT_CLICK_BLOCK;
+
+        if(event.getItem() != null && event.getItem().getType() == Material.BONE_MEAL)
+            return ChunkPermissionType.USE_BONE_MEAL;
+        if(action == Action.RIGHT_CLICK_BLOCK && materialType == Material.SWEET_BERRY_BUSH)
+            return ChunkPermissionType.INTERACT_BERRIES;
+        if(rightClick && player.getItemInHand().getType() == Material.OAK_BOAT)
+            return ChunkPermissionType.INTERACT_BOAT;
+        if(rightClick && player.getItemInHand().getType() == Material.MINECART)
+            return ChunkPermissionType.INTERACT_MINECART;
+        if(action == Action.PHYSICAL && materialType == Material.FARMLAND)
+            return ChunkPermissionType.BREAK_BLOCK;
+        return null;
     }
 
     @EventHandler
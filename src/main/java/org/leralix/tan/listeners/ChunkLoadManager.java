@@ -2,6 +2,7 @@ package org.leralix.tan.listeners;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -213,7 +214,7 @@ public class ChunkLoadManager implements Listener {
     }
     
     /**
-     * Get chunk from key string
+     * Get chunk from key string, only if it is loaded
      */
     private Chunk getChunkFromKey(String key) {
         try {
@@ -224,7 +225,11 @@ public class ChunkLoadManager implements Listener {
             int x = Integer.parseInt(parts[1]);
             int z = Integer.parseInt(parts[2]);
             
-            return Bukkit.getWorld(worldName).getChunkAt(x, z);
+            World world = Bukkit.getWorld(worldName);
+            if (world == null || !world.isChunkLoaded(x, z)) {
+                return null;
+            }
+            return world.getChunkAt(x, z);
         } catch (Exception e) {
             return null;
         }
@@ -0,0 +1,70 @@
+package org.leralix.tan.listeners;
+
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.leralix.tan.enums.permissions.ChunkPermissionType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Permission required to interact with each block, computed once from block tags.
+ * <p>
+ * Categories are registered in priority order: a material belonging to several of them requires the permission
+ * of the first one. Blocks not listed can be interacted with freely.
+ */
+public final class InteractionPermissionTable {
+
+    private static final Map<Material, ChunkPermissionType> PERMISSIONS = new EnumMap<>(Material.class);
+
+    static {
+        register(ChunkPermissionType.INTERACT_BUTTON,
+                List.of(Material.LEVER),
+                List.of(Tag.BUTTONS));
+
+        register(ChunkPermissionType.INTERACT_CHEST,
+                List.of(Material.CHEST, Material.TRAPPED_CHEST, Material.BARREL, Material.HOPPER,
+                        Material.DISPENSER, Material.DROPPER, Material.BREWING_STAND, Material.SHULKER_BOX),
+                List.of());
+
+        register(ChunkPermissionType.INTERACT_DOOR,
+                List.of(),
+                List.of(Tag.DOORS, Tag.TRAPDOORS, Tag.FENCE_GATES));
+
+        register(ChunkPermissionType.INTERACT_DECORATIVE_BLOCK,
+                List.of(Material.COMPOSTER, Material.CHISELED_BOOKSHELF, Material.BEACON),
+                List.of(Tag.CANDLES, Tag.CANDLE_CAKES, Tag.FLOWER_POTS, Tag.CAULDRONS, Tag.ALL_SIGNS, Tag.CAMPFIRES));
+
+        register(ChunkPermissionType.INTERACT_MUSIC_BLOCK,
+                List.of(Material.JUKEBOX, Material.NOTE_BLOCK),
+                List.of());
+
+        register(ChunkPermissionType.INTERACT_REDSTONE,
+                List.of(Material.REDSTONE_WIRE, Material.REPEATER, Material.COMPARATOR, Material.DAYLIGHT_DETECTOR),
+                List.of());
+    }
+
+    private InteractionPermissionTable() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static void register(ChunkPermissionType permissionType, List<Material> materials, List<Tag<Material>> tags) {
+        for (Material material : materials) {
+            PERMISSIONS.putIfAbsent(material, permissionType);
+        }
+        for (Tag<Material> tag : tags) {
+            for (Material material : tag.getValues()) {
+                PERMISSIONS.putIfAbsent(material, permissionType);
+            }
+        }
+    }
+
+    /**
+     * @param material the block interacted with
+     * @return the permission required to interact with the block, or null if it is not protected
+     */
+    public static ChunkPermissionType get(Material material) {
+        return PERMISSIONS.get(material);
+    }
+}
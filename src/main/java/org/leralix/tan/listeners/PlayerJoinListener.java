@@ -39,13 +39,14 @@ public class PlayerJoinListener implements Listener {
             player.sendMessage(TanChatUtils.getTANString() + Lang.NEW_VERSION_AVAILABLE_2.get());
         }
 
-        int nbNewsletterForPlayer = NewsletterStorage.getNbUnreadNewsletterForPlayer(player);
-        if (nbNewsletterForPlayer > 0) {
-            player.sendMessage(Lang.NEWSLETTER_STRING.get() + Lang.NEWSLETTER_GREETING.get(nbNewsletterForPlayer));
-            TextComponent message = new TextComponent(Lang.CLICK_TO_OPEN_NEWSLETTER.get());
-            message.setColor(ChatColor.GOLD);
-            message.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/tan newsletter"));
-            player.spigot().sendMessage(message);
-        }
+        NewsletterStorage.loadPlayer(player, nbNewsletterForPlayer -> {
+            if (nbNewsletterForPlayer > 0) {
+                player.sendMessage(Lang.NEWSLETTER_STRING.get() + Lang.NEWSLETTER_GREETING.get(nbNewsletterForPlayer));
+                TextComponent message = new TextComponent(Lang.CLICK_TO_OPEN_NEWSLETTER.get());
+                message.setColor(ChatColor.GOLD);
+                message.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/tan newsletter"));
+                player.spigot().sendMessage(message);
+            }
+        });
     }
 }
\ No newline at end of file
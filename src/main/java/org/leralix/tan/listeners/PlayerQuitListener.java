@@ -0,0 +1,18 @@
+package org.leralix.tan.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.leralix.tan.newsletter.storage.NewsletterStorage;
+import org.leralix.tan.storage.PermissionDecisionCache;
+import org.leralix.tan.utils.TeamUtils;
+
+public class PlayerQuitListener implements Listener {
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        NewsletterStorage.clearPlayerCache(event.getPlayer().getUniqueId());
+        TeamUtils.removePlayer(event.getPlayer());
+        PermissionDecisionCache.getInstance().removePlayer(event.getPlayer().getUniqueId().toString());
+    }
+}
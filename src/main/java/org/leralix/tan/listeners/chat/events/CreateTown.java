@@ -62,7 +62,7 @@ public class CreateTown extends ChatListenerEvent {
         NewsletterStorage.register(new TownCreatedNews(newTown, player));
         FileUtil.addLineToHistory(Lang.TOWN_CREATED_NEWSLETTER.get(player.getName(), newTown.getName()));
 
-        Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> TeamUtils.setIndividualScoreBoard(player));
+        Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> TeamUtils.updatePlayerTown(tanPlayer));
 
         openGui(p -> PlayerGUI.dispatchPlayerTown(player), player);
     }
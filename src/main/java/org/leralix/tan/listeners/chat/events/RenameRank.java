@@ -32,6 +32,7 @@ public class RenameRank extends ChatListenerEvent {
         }
 
         rankData.setName(message);
+        territoryConcerned.markDirty();
         Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> new RankManagerMenu(player, territoryConcerned, rankData).open());
         PlayerChatListenerStorage.removePlayer(player);
     }
@@ -49,7 +49,7 @@ public abstract class Newsletter {
     }
 
     public void markAsRead(UUID playerID){
-        NewsletterStorage.getNewsletterDAO().markAsRead(id, playerID);
+        NewsletterStorage.markAsRead(this, playerID);
     }
 
     public boolean isRead(Player player){
@@ -57,7 +57,7 @@ public abstract class Newsletter {
     }
 
     public boolean isRead(UUID playerID) {
-       return NewsletterStorage.getNewsletterDAO().hasRead(id, playerID);
+       return NewsletterStorage.isRead(id, playerID);
     }
 
     public abstract void broadcast(Player player);
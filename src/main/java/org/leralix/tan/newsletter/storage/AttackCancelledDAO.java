@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.AttackWonByDefenderNewsletter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -23,7 +24,7 @@ public class AttackCancelledDAO extends NewsletterSubDAO<AttackCancelledByDefend
                 "defendingTerritoryID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -34,7 +35,7 @@ public class AttackCancelledDAO extends NewsletterSubDAO<AttackCancelledByDefend
     public void save(AttackCancelledByDefenderNewsletter newsletter) {
         String sql = "INSERT INTO attack_cancelled_newsletter (id, attackingTerritoryID, defendingTerritoryID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getAttackingTerritoryID());
             ps.setString(3, newsletter.getDefendingTerritoryID());
@@ -46,19 +47,14 @@ public class AttackCancelledDAO extends NewsletterSubDAO<AttackCancelledByDefend
     }
 
     @Override
-    public AttackCancelledByDefenderNewsletter load(UUID id, long date) {
-        String sql = "SELECT attackingTerritoryID, defendingTerritoryID,FROM attack_cancelled_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String attackingTerritoryID = rs.getString("attackingTerritoryID");
-                String defendingTerritoryID = rs.getString("defendingTerritoryID");
-                return new AttackCancelledByDefenderNewsletter(id, date, attackingTerritoryID, defendingTerritoryID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "attack_cancelled_newsletter";
+    }
+
+    @Override
+    protected AttackCancelledByDefenderNewsletter load(UUID id, long date, ResultSet rs) throws SQLException {
+        String attackingTerritoryID = rs.getString("attackingTerritoryID");
+        String defendingTerritoryID = rs.getString("defendingTerritoryID");
+        return new AttackCancelledByDefenderNewsletter(id, date, attackingTerritoryID, defendingTerritoryID);
     }
 }
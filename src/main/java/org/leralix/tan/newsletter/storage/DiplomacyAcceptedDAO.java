@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.DiplomacyAcceptedNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -25,7 +26,7 @@ public class DiplomacyAcceptedDAO extends NewsletterSubDAO<DiplomacyAcceptedNews
                 "isWorseRelation BOOLEAN NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -36,7 +37,7 @@ public class DiplomacyAcceptedDAO extends NewsletterSubDAO<DiplomacyAcceptedNews
     public void save(DiplomacyAcceptedNews newsletter) {
         String sql = "INSERT INTO diplomacy_accepted_newsletter (id, proposingTerritoryID, receivingTerritoryID, wantedRelation, isWorseRelation) VALUES (?, ?, ?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getProposingTerritoryID());
             ps.setString(3, newsletter.getReceivingTerritoryID());
@@ -50,21 +51,16 @@ public class DiplomacyAcceptedDAO extends NewsletterSubDAO<DiplomacyAcceptedNews
     }
 
     @Override
-    public DiplomacyAcceptedNews load(UUID id, long date) {
-        String sql = "SELECT proposingTerritoryID, receivingTerritoryID, wantedRelation, isWorseRelation FROM diplomacy_accepted_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String proposingTerritoryID = rs.getString("proposingTerritoryID");
-                String receivingTerritoryID = rs.getString("receivingTerritoryID");
-                TownRelation wantedRelation = TownRelation.valueOf(rs.getString("wantedRelation"));
-                boolean isRelationWorse = rs.getBoolean("isWorseRelation");
-                return new DiplomacyAcceptedNews(id, date, proposingTerritoryID, receivingTerritoryID, wantedRelation, isRelationWorse);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "diplomacy_accepted_newsletter";
+    }
+
+    @Override
+    protected DiplomacyAcceptedNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String proposingTerritoryID = rs.getString("proposingTerritoryID");
+        String receivingTerritoryID = rs.getString("receivingTerritoryID");
+        TownRelation wantedRelation = TownRelation.valueOf(rs.getString("wantedRelation"));
+        boolean isRelationWorse = rs.getBoolean("isWorseRelation");
+        return new DiplomacyAcceptedNews(id, date, proposingTerritoryID, receivingTerritoryID, wantedRelation, isRelationWorse);
     }
 }
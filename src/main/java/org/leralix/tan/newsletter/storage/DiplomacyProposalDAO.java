@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.DiplomacyProposalNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -24,7 +25,7 @@ public class DiplomacyProposalDAO extends NewsletterSubDAO<DiplomacyProposalNews
                 "wantedRelation VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -35,7 +36,7 @@ public class DiplomacyProposalDAO extends NewsletterSubDAO<DiplomacyProposalNews
     public void save(DiplomacyProposalNews newsletter) {
         String sql = "INSERT INTO diplomacy_proposal_newsletter (id, proposingTerritoryID, receivingTerritoryID, wantedRelation) VALUES (?, ?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getProposingTerritoryID());
             ps.setString(3, newsletter.getReceivingTerritoryID());
@@ -48,20 +49,15 @@ public class DiplomacyProposalDAO extends NewsletterSubDAO<DiplomacyProposalNews
     }
 
     @Override
-    public DiplomacyProposalNews load(UUID id, long date) {
-        String sql = "SELECT proposingTerritoryID, receivingTerritoryID, wantedRelation FROM diplomacy_proposal_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String proposingTerritoryID = rs.getString("proposingTerritoryID");
-                String receivingTerritoryID = rs.getString("receivingTerritoryID");
-                TownRelation wantedRelation = TownRelation.valueOf(rs.getString("wantedRelation"));
-                return new DiplomacyProposalNews(id, date, proposingTerritoryID, receivingTerritoryID, wantedRelation);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "diplomacy_proposal_newsletter";
+    }
+
+    @Override
+    protected DiplomacyProposalNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String proposingTerritoryID = rs.getString("proposingTerritoryID");
+        String receivingTerritoryID = rs.getString("receivingTerritoryID");
+        TownRelation wantedRelation = TownRelation.valueOf(rs.getString("wantedRelation"));
+        return new DiplomacyProposalNews(id, date, proposingTerritoryID, receivingTerritoryID, wantedRelation);
     }
 }
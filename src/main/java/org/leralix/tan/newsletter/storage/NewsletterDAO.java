@@ -9,7 +9,6 @@ import java.sql.*;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.*;
 
 public class NewsletterDAO {
@@ -43,8 +42,7 @@ public class NewsletterDAO {
         subDaos.put(NewsletterType.ATTACK_WON_BY_DEFENDER, new AttackWonByDefenderDAO(dataSource));
         subDaos.put(NewsletterType.ATTACK_CANCELLED, new AttackCancelledDAO(dataSource));
 
-
-
+        removeInvalidNewsletters();
     }
 
     private void createTableIfNotExists() {
@@ -54,7 +52,7 @@ public class NewsletterDAO {
                 "date_created TIMESTAMP NOT NULL" +
                 ")";
 
-        try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         }
         catch (SQLException e) {
@@ -66,7 +64,7 @@ public class NewsletterDAO {
                 "player_id VARCHAR(36) NOT NULL, " +
                 "PRIMARY KEY (newsletter_id, player_id)" +
                 ")";
-        try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         }
         catch (SQLException e) {
@@ -79,7 +77,7 @@ public class NewsletterDAO {
     public void save(Newsletter newsletter) throws SQLException {
         String sql = "INSERT INTO newsletter (id, type, date_created) VALUES (?, ?, ?)";
 
-        try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getType().name());
             ps.setTimestamp(3,
@@ -104,7 +102,7 @@ public class NewsletterDAO {
 
         try {
             String sql = "INSERT INTO newsletter_read (newsletter_id, player_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
-            try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
+            try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
                 ps.setObject(1, newsletterId);
                 ps.setObject(2, playerId);
                 ps.executeUpdate();
@@ -114,10 +112,34 @@ public class NewsletterDAO {
         }
     }
 
+    /**
+     * Mark several newsletters as read by a player, in a single transaction.
+     */
+    public void markAllAsRead(Collection<UUID> newsletterIds, UUID playerId) {
+        String sql = "INSERT INTO newsletter_read (newsletter_id, player_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (UUID newsletterId : newsletterIds) {
+                    ps.setObject(1, newsletterId);
+                    ps.setObject(2, playerId);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to add entries in newsletter_read table", e);
+        }
+    }
+
     public boolean hasRead(UUID newsletterId, UUID playerId) {
         try {
             String sql = "SELECT 1 FROM newsletter_read WHERE newsletter_id = ? AND player_id = ?";
-            try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
+            try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
                 ps.setObject(1, newsletterId);
                 ps.setObject(2, playerId);
                 try (ResultSet rs = ps.executeQuery()) {
@@ -130,56 +152,75 @@ public class NewsletterDAO {
         }
     }
 
+    /**
+     * @return the IDs of every newsletter read by the player
+     */
+    public Set<UUID> getReadNewsletters(UUID playerId) {
+        String sql = "SELECT newsletter_id FROM newsletter_read WHERE player_id = ?";
+        Set<UUID> readNewsletters = new HashSet<>();
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setObject(1, playerId);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    readNewsletters.add(UUID.fromString(rs.getString("newsletter_id")));
+                }
+            }
+        }
+        catch (SQLException e) {
+            throw new RuntimeException("Failed to get read newsletters", e);
+        }
+        return readNewsletters;
+    }
+
+    /**
+     * Load every newsletter of the last 7 days, most recent first.
+     * Each type of newsletter is loaded with a single query joining its table.
+     */
     public List<Newsletter> getNewsletters() {
         Duration duration = Duration.ofDays(7);
-        LocalDateTime cutoff = LocalDateTime.now().minus(duration);
-        String sql = "SELECT * FROM newsletter WHERE date_created >= ? ORDER BY date_created DESC";
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(duration));
         List<Newsletter> newsletters = new ArrayList<>();
 
-        try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setTimestamp(1, Timestamp.valueOf(cutoff));
-
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    UUID id = UUID.fromString(rs.getString("id"));
-                    LocalDateTime createdAt = rs.getTimestamp("date_created").toLocalDateTime();
-
-                    String typeName = rs.getString("type");
-                    if(!NewsletterType.isValidEnumValue(typeName)) {
-                        TownsAndNations.getPlugin().getLogger().severe("Invalid newsletter type: " + typeName);
-                        removeNewsletter(id);
-                        continue;
-                    }
-
-                    NewsletterType type = NewsletterType.valueOf(rs.getString("type"));
-
-                    NewsletterSubDAO<?> subDAO = subDaos.get(type);
-                    if (subDAO == null) {
-                        System.err.println("Aucun DAO pour le type " + type + ", id: " + id);
-                        continue;
-                    }
-
-                    Newsletter newsletter = subDAO.load(id, createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
-                    if (newsletter != null) {
-                        newsletters.add(newsletter);
-                    }
-                }
+        try (Connection connection = dataSource.getConnection()) {
+            for (Map.Entry<NewsletterType, NewsletterSubDAO<?>> entry : subDaos.entrySet()) {
+                newsletters.addAll(entry.getValue().loadAllSince(connection, entry.getKey(), cutoff));
             }
         }
         catch (SQLException e) {
             throw new RuntimeException("Failed to get newsletters", e);
         }
 
+        newsletters.sort(Comparator.comparingLong(Newsletter::getDate).reversed());
         return newsletters;
     }
 
-    private void removeNewsletter(UUID id) {
-        String sql = "DELETE FROM newsletter WHERE id = ?";
-        try (PreparedStatement ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            ps.executeUpdate();
+    /**
+     * Remove newsletters whose type does not exist anymore.
+     */
+    private void removeInvalidNewsletters() {
+        List<String> invalidTypes = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT DISTINCT type FROM newsletter");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String typeName = rs.getString("type");
+                if (!NewsletterType.isValidEnumValue(typeName)) {
+                    invalidTypes.add(typeName);
+                }
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to remove newsletter", e);
+            throw new RuntimeException("Failed to get newsletter types", e);
+        }
+
+        for (String typeName : invalidTypes) {
+            TownsAndNations.getPlugin().getLogger().severe("Invalid newsletter type: " + typeName);
+            String sql = "DELETE FROM newsletter WHERE type = ?";
+            try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, typeName);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to remove newsletter", e);
+            }
         }
     }
 }
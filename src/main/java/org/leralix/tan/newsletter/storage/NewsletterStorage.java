@@ -18,6 +18,11 @@ import org.leralix.tan.storage.database.DatabaseHandler;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class NewsletterStorage {
@@ -28,6 +33,33 @@ public class NewsletterStorage {
 
     private static NewsletterDAO newsletterDAO;
 
+    /**
+     * Time after which cached newsletters are loaded again, so newsletters older than 7 days disappear.
+     */
+    private static final long CACHE_DURATION_MS = 10 * 60 * 1000L;
+    /**
+     * Newsletters of the last 7 days, most recent first. Null if they need to be loaded again.
+     */
+    private static volatile List<Newsletter> cachedNewsletters;
+    private static volatile long cacheLoadDate;
+    /**
+     * IDs of the newsletters read by each player, loaded on first use.
+     */
+    private static final Map<UUID, Set<UUID>> readNewslettersCache = new ConcurrentHashMap<>();
+    /**
+     * Number of unread newsletters of each player. Computed once from the caches and then updated
+     * when a newsletter is registered or read.
+     */
+    private static final Map<UUID, UnreadCounter> unreadCounters = new ConcurrentHashMap<>();
+    /**
+     * Incremented each time the cached newsletters are loaded again. Counters computed from an older list
+     * are stale and computed again on their next use, without touching the counters of other players.
+     */
+    private static final AtomicInteger newslettersGeneration = new AtomicInteger();
+
+    private record UnreadCounter(int count, int generation) {
+    }
+
     public static void init() {
 
         DatabaseHandler databaseHandler = TownsAndNations.getPlugin().getDatabaseHandler();
@@ -62,16 +94,132 @@ public class NewsletterStorage {
             newsletterDAO.save(newsletter);
         } catch (Exception e) {
             Bukkit.getLogger().warning("Error while saving newsletter: " + e.getMessage());
+            return;
+        }
+
+        List<Newsletter> newsletters = cachedNewsletters;
+        if (newsletters != null) {
+            List<Newsletter> updatedNewsletters = new ArrayList<>(newsletters.size() + 1);
+            updatedNewsletters.add(newsletter);
+            updatedNewsletters.addAll(newsletters);
+            cachedNewsletters = Collections.unmodifiableList(updatedNewsletters);
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (isShownAsUnread(newsletter, player)) {
+                updateCounter(player.getUniqueId(), 1);
+            }
         }
     }
 
     private static List<Newsletter> getNewsletters(){
-        return newsletterDAO.getNewsletters();
+        List<Newsletter> newsletters = cachedNewsletters;
+        if (newsletters == null || isCacheExpired()) {
+            newsletters = Collections.unmodifiableList(newsletterDAO.getNewsletters());
+            cachedNewsletters = newsletters;
+            cacheLoadDate = System.currentTimeMillis();
+            // Some newsletters may have expired, counters are computed again from the new list
+            newslettersGeneration.incrementAndGet();
+        }
+        return newsletters;
+    }
+
+    private static boolean isCacheExpired() {
+        return System.currentTimeMillis() - cacheLoadDate > CACHE_DURATION_MS;
+    }
+
+    /**
+     * Add a delta to the unread counter of a player, if it is known and up to date.
+     */
+    private static void updateCounter(UUID playerID, int delta) {
+        int generation = newslettersGeneration.get();
+        unreadCounters.computeIfPresent(playerID, (id, counter) -> counter.generation() == generation ?
+                new UnreadCounter(Math.max(0, counter.count() + delta), generation) :
+                counter);
+    }
+
+    /**
+     * Store the unread counter of a player.
+     * @param generation the generation read before getting the newsletters the count was computed from
+     */
+    private static void putCounter(UUID playerID, int count, int generation) {
+        unreadCounters.put(playerID, new UnreadCounter(count, generation));
+    }
+
+    /**
+     * @return true if the newsletter appears in the unread newsletters of the player, once not read
+     */
+    private static boolean isShownAsUnread(Newsletter newsletter, Player player) {
+        EventScope eventScope = newsletter.getType().getNewsletterScope();
+        return eventScope == EventScope.ALL ||
+                (eventScope == EventScope.CONCERNED && newsletter.shouldShowToPlayer(player));
+    }
+
+    private static Set<UUID> getReadNewsletters(UUID playerID) {
+        Set<UUID> readNewsletters = readNewslettersCache.get(playerID);
+        if (readNewsletters == null) {
+            readNewsletters = ConcurrentHashMap.newKeySet();
+            readNewsletters.addAll(newsletterDAO.getReadNewsletters(playerID));
+            Set<UUID> previous = readNewslettersCache.putIfAbsent(playerID, readNewsletters);
+            if (previous != null) {
+                readNewsletters = previous;
+            }
+        }
+        return readNewsletters;
+    }
+
+    public static boolean isRead(UUID newsletterID, UUID playerID) {
+        return getReadNewsletters(playerID).contains(newsletterID);
     }
 
-    public static List<GuiItem> getNewsletterForPlayer(Player player, NewsletterScope scope, Consumer<Player> onClick){
-        List<GuiItem> newsletters = new ArrayList<>();
+    public static void markAsRead(Newsletter newsletter, UUID playerID) {
+        newsletterDAO.markAsRead(newsletter.getId(), playerID);
+        Set<UUID> readNewsletters = readNewslettersCache.get(playerID);
+        if (readNewsletters == null) {
+            unreadCounters.remove(playerID);
+            return;
+        }
+        if (readNewsletters.add(newsletter.getId())) {
+            Player player = Bukkit.getPlayer(playerID);
+            if (player != null && isShownAsUnread(newsletter, player)) {
+                updateCounter(playerID, -1);
+            }
+        }
+    }
+
+    /**
+     * Load, outside the main thread, everything needed to count the unread newsletters of a player,
+     * then give the count on the main thread.
+     * @param player    the player who joined
+     * @param callback  called on the main thread with the number of unread newsletters
+     */
+    public static void loadPlayer(Player player, Consumer<Integer> callback) {
+        UUID playerID = player.getUniqueId();
+        Bukkit.getScheduler().runTaskAsynchronously(TownsAndNations.getPlugin(), () -> {
+            getNewsletters();
+            getReadNewsletters(playerID);
+            Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> {
+                if (player.isOnline()) {
+                    callback.accept(getNbUnreadNewsletterForPlayer(player));
+                }
+            });
+        });
+    }
+
+    /**
+     * Forget the newsletters read by a player and their unread counter. Used when the player leaves the server.
+     */
+    public static void clearPlayerCache(UUID playerID) {
+        readNewslettersCache.remove(playerID);
+        unreadCounters.remove(playerID);
+    }
 
+    /**
+     * Get the newsletters to display to a player, without creating their items.
+     * @see #createGuiItem(Newsletter, Player, NewsletterScope, Consumer)
+     */
+    public static List<Newsletter> getNewslettersForPlayer(Player player, NewsletterScope scope){
+        int generation = newslettersGeneration.get();
+        List<Newsletter> newsletters = new ArrayList<>();
 
         for(Newsletter newsletter : getNewsletters()) {
 
@@ -81,32 +229,32 @@ public class NewsletterStorage {
                 continue;
             }
 
-            if(eventScope == EventScope.CONCERNED && newsletter.shouldShowToPlayer(player)){
-                if(scope == NewsletterScope.SHOW_ALL){
-                    newsletters.add(newsletter.createConcernedGuiItem(player, onClick));
-                    continue;
-                }
-                if(scope == NewsletterScope.SHOW_ONLY_UNREAD && !newsletter.isRead(player)){
-                    newsletters.add(newsletter.createGuiItem(player, onClick));
-                    continue;
-                }
+            if(eventScope == EventScope.CONCERNED && !newsletter.shouldShowToPlayer(player)){
+                continue;
             }
-            if(eventScope == EventScope.ALL){
-                if(scope == NewsletterScope.SHOW_ALL){
-                    newsletters.add(newsletter.createGuiItem(player, onClick));
-                    continue;
-                }
-                if(scope == NewsletterScope.SHOW_ONLY_UNREAD && !newsletter.isRead(player)){
-                    newsletters.add(newsletter.createGuiItem(player, onClick));
-                    continue;
-                }
+            if(scope == NewsletterScope.SHOW_ALL || !newsletter.isRead(player)){
+                newsletters.add(newsletter);
             }
         }
-        newsletters.removeAll(Collections.singleton(null));
 
+        if(scope == NewsletterScope.SHOW_ONLY_UNREAD){
+            // Resynchronize the counter, the newsletters concerning the player may have changed
+            putCounter(player.getUniqueId(), newsletters.size(), generation);
+        }
         return newsletters;
     }
 
+    /**
+     * Create the item of a newsletter returned by {@link #getNewslettersForPlayer(Player, NewsletterScope)}.
+     * @return the item, or null if the newsletter cannot be displayed anymore
+     */
+    public static GuiItem createGuiItem(Newsletter newsletter, Player player, NewsletterScope scope, Consumer<Player> onClick){
+        if(scope == NewsletterScope.SHOW_ALL && newsletter.getType().getNewsletterScope() == EventScope.CONCERNED){
+            return newsletter.createConcernedGuiItem(player, onClick);
+        }
+        return newsletter.createGuiItem(player, onClick);
+    }
+
     public static void removePlayerJoinRequest(PlayerJoinRequestNews playerJoinRequestNews) {
         removePlayerJoinRequest(playerJoinRequestNews.getPlayerID(), playerJoinRequestNews.getTownID());
     }
@@ -121,7 +269,22 @@ public class NewsletterStorage {
     }
 
     public static int getNbUnreadNewsletterForPlayer(Player player){
-        return getNewsletterForPlayer(player, NewsletterScope.SHOW_ONLY_UNREAD, null).size();
+        UUID playerID = player.getUniqueId();
+        // Read before getting the newsletters, so a counter computed from a list being replaced is stale
+        int generation = newslettersGeneration.get();
+        UnreadCounter counter = unreadCounters.get(playerID);
+        if (counter != null && counter.generation() == generation && !isCacheExpired()) {
+            return counter.count();
+        }
+        Set<UUID> readNewsletters = getReadNewsletters(playerID);
+        int nbUnread = 0;
+        for (Newsletter newsletter : getNewsletters()) {
+            if (!readNewsletters.contains(newsletter.getId()) && isShownAsUnread(newsletter, player)) {
+                nbUnread++;
+            }
+        }
+        putCounter(playerID, nbUnread, generation);
+        return nbUnread;
     }
 
     public static void clearOldNewsletters() {
@@ -135,9 +298,21 @@ public class NewsletterStorage {
     }
 
     public static void markAllAsReadForPlayer(Player player, NewsletterScope scope) {
+        UUID playerID = player.getUniqueId();
+        int generation = newslettersGeneration.get();
+        List<UUID> newsletterIDs = new ArrayList<>();
+        Set<UUID> readNewsletters = getReadNewsletters(playerID);
         for(Newsletter newsletter : getNewsletters()){
-            newsletter.markAsRead(player);
+            if(!readNewsletters.contains(newsletter.getId())){
+                newsletterIDs.add(newsletter.getId());
+            }
+        }
+        if(newsletterIDs.isEmpty()){
+            return;
         }
+        newsletterDAO.markAllAsRead(newsletterIDs, playerID);
+        readNewsletters.addAll(newsletterIDs);
+        putCounter(playerID, 0, generation);
     }
 
 }
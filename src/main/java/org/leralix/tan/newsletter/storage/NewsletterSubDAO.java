@@ -1,10 +1,17 @@
 package org.leralix.tan.newsletter.storage;
 
+import org.leralix.tan.newsletter.NewsletterType;
 import org.leralix.tan.newsletter.news.Newsletter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 public abstract class NewsletterSubDAO<T extends Newsletter> {
@@ -19,5 +26,54 @@ public abstract class NewsletterSubDAO<T extends Newsletter> {
 
     public abstract void save(T newsletter) throws SQLException;
 
-    public abstract T load(UUID id, long date) throws SQLException;
+    /**
+     * @return the name of the table storing the specific data of this type of newsletter
+     */
+    protected abstract String getTableName();
+
+    /**
+     * Create a newsletter from the current row of a result set containing the columns of {@link #getTableName()}.
+     */
+    protected abstract T load(UUID id, long date, ResultSet rs) throws SQLException;
+
+    public T load(UUID id, long date) throws SQLException {
+        String sql = "SELECT * FROM " + getTableName() + " WHERE id = ?";
+        try (Connection connection = dataSource.getConnection(); PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setObject(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return load(id, date, rs);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load, with a single query, every newsletter of this type created after the given date.
+     * @param connection connection to use
+     * @param type       type of newsletter handled by this DAO
+     * @param cutoff     oldest creation date to load
+     */
+    public List<T> loadAllSince(Connection connection, NewsletterType type, Timestamp cutoff) throws SQLException {
+        String sql = "SELECT n.date_created AS newsletter_date_created, s.* FROM newsletter n " +
+                "JOIN " + getTableName() + " s ON s.id = n.id " +
+                "WHERE n.type = ? AND n.date_created >= ?";
+        List<T> newsletters = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, type.name());
+            ps.setTimestamp(2, cutoff);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    UUID id = UUID.fromString(rs.getString("id"));
+                    long date = rs.getTimestamp("newsletter_date_created").toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+                    T newsletter = load(id, date, rs);
+                    if (newsletter != null) {
+                        newsletters.add(newsletter);
+                    }
+                }
+            }
+        }
+        return newsletters;
+    }
 }
@@ -4,6 +4,7 @@ import org.leralix.tan.newsletter.news.PlayerJoinRequestNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -21,7 +22,7 @@ public class PlayerApplicationDAO extends NewsletterSubDAO<PlayerJoinRequestNews
                 "townID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player application newsletter table", e);
@@ -32,7 +33,7 @@ public class PlayerApplicationDAO extends NewsletterSubDAO<PlayerJoinRequestNews
     public void save(PlayerJoinRequestNews newsletter) {
         String sql = "INSERT INTO player_application_newsletter (id, playerID, townID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getPlayerID());
             ps.setString(3, newsletter.getTownID());
@@ -44,19 +45,14 @@ public class PlayerApplicationDAO extends NewsletterSubDAO<PlayerJoinRequestNews
     }
 
     @Override
-    public PlayerJoinRequestNews load(UUID id, long date) {
-        String sql = "SELECT playerID, townID FROM player_application_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String playerID = rs.getString("playerID");
-                String townID = rs.getString("townID");
-                return new PlayerJoinRequestNews(id, date, playerID, townID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "player_application_newsletter";
+    }
+
+    @Override
+    protected PlayerJoinRequestNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String playerID = rs.getString("playerID");
+        String townID = rs.getString("townID");
+        return new PlayerJoinRequestNews(id, date, playerID, townID);
     }
 }
@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.TownCreatedNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -22,7 +23,7 @@ public class PlayerCreateRegionDAO extends NewsletterSubDAO<RegionCreationNews>
                 "regionID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player application newsletter table", e);
@@ -33,7 +34,7 @@ public class PlayerCreateRegionDAO extends NewsletterSubDAO<RegionCreationNews>
     public void save(RegionCreationNews newsletter) {
         String sql = "INSERT INTO player_create_region_newsletter (id, playerID, regionID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getPlayerID());
             ps.setString(3, newsletter.getRegionID());
@@ -45,19 +46,14 @@ public class PlayerCreateRegionDAO extends NewsletterSubDAO<RegionCreationNews>
     }
 
     @Override
-    public RegionCreationNews load(UUID id, long date) {
-        String sql = "SELECT playerID, regionID FROM player_create_region_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String playerID = rs.getString("playerID");
-                String regionID = rs.getString("regionID");
-                return new RegionCreationNews(id, date, playerID, regionID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "player_create_region_newsletter";
+    }
+
+    @Override
+    protected RegionCreationNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String playerID = rs.getString("playerID");
+        String regionID = rs.getString("regionID");
+        return new RegionCreationNews(id, date, playerID, regionID);
     }
 }
@@ -4,6 +4,7 @@ import org.leralix.tan.newsletter.news.TownCreatedNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -22,7 +23,7 @@ public class PlayerCreateTownDAO extends NewsletterSubDAO<TownCreatedNews> {
                 ")";
 
         try (Connection connection = dataSource.getConnection()) {
-            try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+            try (var ps = connection.prepareStatement(sql)) {
                 ps.executeUpdate();
             } catch (SQLException e) {
                 throw new RuntimeException("Failed to create player application newsletter table", e);
@@ -39,7 +40,7 @@ public class PlayerCreateTownDAO extends NewsletterSubDAO<TownCreatedNews> {
         String sql = "INSERT INTO player_create_town_newsletter (id, playerID, townID) VALUES (?, ?, ?)";
 
         try (Connection connection = dataSource.getConnection()) {
-            try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+            try (var ps = connection.prepareStatement(sql)) {
                 ps.setObject(1, newsletter.getId());
                 ps.setString(2, newsletter.getPlayerID());
                 ps.setString(3, newsletter.getTownID());
@@ -55,24 +56,14 @@ public class PlayerCreateTownDAO extends NewsletterSubDAO<TownCreatedNews> {
     }
 
     @Override
-    public TownCreatedNews load(UUID id, long date) {
-        String sql = "SELECT playerID, townID FROM player_create_town_newsletter WHERE id = ?";
-        try (Connection connection = dataSource.getConnection()) {
-            try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-                ps.setObject(1, id);
-                var rs = ps.executeQuery();
-                if (rs.next()) {
-                    String playerID = rs.getString("playerID");
-                    String townID = rs.getString("townID");
-                    return new TownCreatedNews(id, date, playerID, townID);
-                }
-            } catch (SQLException e) {
-                throw new RuntimeException("Failed to load player application newsletter", e);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to connect to the database", e);
-        }
+    protected String getTableName() {
+        return "player_create_town_newsletter";
+    }
 
-        return null;
+    @Override
+    protected TownCreatedNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String playerID = rs.getString("playerID");
+        String townID = rs.getString("townID");
+        return new TownCreatedNews(id, date, playerID, townID);
     }
 }
@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.TownDeletedNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -23,7 +24,7 @@ public class PlayerDeleteRegionDAO extends NewsletterSubDAO<RegionDeletedNews> {
                 "oldRegionName VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player application newsletter table", e);
@@ -34,7 +35,7 @@ public class PlayerDeleteRegionDAO extends NewsletterSubDAO<RegionDeletedNews> {
     public void save(RegionDeletedNews newsletter) {
         String sql = "INSERT INTO player_delete_region_newsletter (id, playerID, oldRegionName) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getPlayerID());
             ps.setString(3, newsletter.getRegionName());
@@ -46,19 +47,14 @@ public class PlayerDeleteRegionDAO extends NewsletterSubDAO<RegionDeletedNews> {
     }
 
     @Override
-    public RegionDeletedNews load(UUID id, long date) {
-        String sql = "SELECT playerID, oldRegionName FROM player_delete_region_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String playerID = rs.getString("playerID");
-                String oldRegionName = rs.getString("oldRegionName");
-                return new RegionDeletedNews(id, date, playerID, oldRegionName);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "player_delete_region_newsletter";
+    }
+
+    @Override
+    protected RegionDeletedNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String playerID = rs.getString("playerID");
+        String oldRegionName = rs.getString("oldRegionName");
+        return new RegionDeletedNews(id, date, playerID, oldRegionName);
     }
 }
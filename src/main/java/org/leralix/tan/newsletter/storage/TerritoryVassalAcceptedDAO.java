@@ -5,6 +5,7 @@ import org.leralix.tan.newsletter.news.TerritoryVassalProposalNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -23,7 +24,7 @@ public class TerritoryVassalAcceptedDAO extends NewsletterSubDAO<TerritoryVassal
                 "receivingTerritoryID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -34,7 +35,7 @@ public class TerritoryVassalAcceptedDAO extends NewsletterSubDAO<TerritoryVassal
     public void save(TerritoryVassalAcceptedNews newsletter) {
         String sql = "INSERT INTO territory_vassal_accepted_newsletter (id, proposingTerritoryID, receivingTerritoryID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getProposingTerritoryID());
             ps.setString(3, newsletter.getReceivingTerritoryID());
@@ -46,19 +47,14 @@ public class TerritoryVassalAcceptedDAO extends NewsletterSubDAO<TerritoryVassal
     }
 
     @Override
-    public TerritoryVassalAcceptedNews load(UUID id, long date) {
-        String sql = "SELECT proposingTerritoryID, receivingTerritoryID FROM territory_vassal_accepted_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String proposingTerritoryID = rs.getString("proposingTerritoryID");
-                String receivingTerritoryID = rs.getString("receivingTerritoryID");
-                return new TerritoryVassalAcceptedNews(id, date, proposingTerritoryID, receivingTerritoryID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "territory_vassal_accepted_newsletter";
+    }
+
+    @Override
+    protected TerritoryVassalAcceptedNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String proposingTerritoryID = rs.getString("proposingTerritoryID");
+        String receivingTerritoryID = rs.getString("receivingTerritoryID");
+        return new TerritoryVassalAcceptedNews(id, date, proposingTerritoryID, receivingTerritoryID);
     }
 }
@@ -4,6 +4,7 @@ import org.leralix.tan.newsletter.news.TerritoryVassalForcedNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -22,7 +23,7 @@ public class TerritoryVassalForcedDAO extends NewsletterSubDAO<TerritoryVassalFo
                 "forcedTerritoryID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -33,7 +34,7 @@ public class TerritoryVassalForcedDAO extends NewsletterSubDAO<TerritoryVassalFo
     public void save(TerritoryVassalForcedNews newsletter) {
         String sql = "INSERT INTO territory_vassal_forced_newsletter (id, proposingTerritoryID, forcedTerritoryID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getProposingTerritoryID());
             ps.setString(3, newsletter.getForcedTerritoryID());
@@ -45,19 +46,14 @@ public class TerritoryVassalForcedDAO extends NewsletterSubDAO<TerritoryVassalFo
     }
 
     @Override
-    public TerritoryVassalForcedNews load(UUID id, long date) {
-        String sql = "SELECT proposingTerritoryID, forcedTerritoryID FROM territory_vassal_forced_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String proposingTerritoryID = rs.getString("proposingTerritoryID");
-                String forcedTerritoryID = rs.getString("forcedTerritoryID");
-                return new TerritoryVassalForcedNews(id, date, proposingTerritoryID, forcedTerritoryID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "territory_vassal_forced_newsletter";
+    }
+
+    @Override
+    protected TerritoryVassalForcedNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String proposingTerritoryID = rs.getString("proposingTerritoryID");
+        String forcedTerritoryID = rs.getString("forcedTerritoryID");
+        return new TerritoryVassalForcedNews(id, date, proposingTerritoryID, forcedTerritoryID);
     }
 }
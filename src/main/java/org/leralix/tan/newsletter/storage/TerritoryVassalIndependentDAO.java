@@ -4,6 +4,7 @@ import org.leralix.tan.newsletter.news.TerritoryIndependentNews;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -22,7 +23,7 @@ public class TerritoryVassalIndependentDAO extends NewsletterSubDAO<TerritoryInd
                 "formerMasterID VARCHAR(36) NOT NULL" +
                 ")";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create player diplomacy accepted newsletter table", e);
@@ -33,7 +34,7 @@ public class TerritoryVassalIndependentDAO extends NewsletterSubDAO<TerritoryInd
     public void save(TerritoryIndependentNews newsletter) {
         String sql = "INSERT INTO territory_vassal_independent_newsletter (id, independentTerritoryID, formerMasterID) VALUES (?, ?, ?)";
 
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
+        try (Connection connection = dataSource.getConnection(); var ps = connection.prepareStatement(sql)) {
             ps.setObject(1, newsletter.getId());
             ps.setString(2, newsletter.getFormerMasterID());
             ps.setString(3, newsletter.getIndependentTerritoryID());
@@ -45,19 +46,14 @@ public class TerritoryVassalIndependentDAO extends NewsletterSubDAO<TerritoryInd
     }
 
     @Override
-    public TerritoryIndependentNews load(UUID id, long date) {
-        String sql = "SELECT independentTerritoryID, formerMasterID FROM territory_vassal_independent_newsletter WHERE id = ?";
-        try (var ps = dataSource.getConnection().prepareStatement(sql)) {
-            ps.setObject(1, id);
-            var rs = ps.executeQuery();
-            if (rs.next()) {
-                String independentTerritoryID = rs.getString("independentTerritoryID");
-                String formerMasterID = rs.getString("formerMasterID");
-                return new TerritoryIndependentNews(id, date, independentTerritoryID, formerMasterID);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to load player application newsletter", e);
-        }
-        return null;
+    protected String getTableName() {
+        return "territory_vassal_independent_newsletter";
+    }
+
+    @Override
+    protected TerritoryIndependentNews load(UUID id, long date, ResultSet rs) throws SQLException {
+        String independentTerritoryID = rs.getString("independentTerritoryID");
+        String formerMasterID = rs.getString("formerMasterID");
+        return new TerritoryIndependentNews(id, date, independentTerritoryID, formerMasterID);
     }
 }
@@ -1,18 +1,16 @@
 package org.leralix.tan.storage;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.leralix.lib.utils.config.ConfigTag;
 import org.leralix.lib.utils.config.ConfigUtil;
 import org.leralix.tan.dataclass.chunk.ClaimedChunk2;
-import org.leralix.tan.storage.blacklist.BlackListWorld;
 import org.leralix.tan.storage.blacklist.BlackListZone;
-import org.leralix.tan.storage.blacklist.IBlackList;
+import org.leralix.tan.storage.blacklist.WorldBlackList;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class ClaimBlacklistStorage {
 
@@ -20,10 +18,13 @@ public class ClaimBlacklistStorage {
         throw new IllegalStateException("Utility class");
     }
 
-    private static List<IBlackList> blacklist;
+    /**
+     * Blacklisted areas, by world name. Worlds without blacklisted areas are absent.
+     */
+    private static Map<String, WorldBlackList> blacklistByWorld = new HashMap<>();
 
     public static void init() {
-        blacklist = new ArrayList<>();
+        Map<String, WorldBlackList> newBlacklist = new HashMap<>();
         FileConfiguration config = ConfigUtil.getCustomConfig(ConfigTag.MAIN);
         for (Object item : config.getList("claimBlacklist", Collections.emptyList())){
             if (item instanceof Map<?, ?> map) {
@@ -35,28 +36,36 @@ public class ClaimBlacklistStorage {
                 }
 
                 if(coordinates == null) {
-                    blacklist.add(new BlackListWorld(name));
+                    newBlacklist.computeIfAbsent(name, k -> new WorldBlackList()).blacklistWholeWorld();
                     continue;
                 }
 
                 if (coordinates.size() == 4) {
-                    blacklist.add(new BlackListZone(name, coordinates));
+                    newBlacklist.computeIfAbsent(name, k -> new WorldBlackList()).addZone(new BlackListZone(name, coordinates));
                 }
             }
         }
+        blacklistByWorld = newBlacklist;
     }
 
     public static boolean cannotBeClaimed(Chunk chunk) {
-        for(IBlackList instance : blacklist) {
-            if(instance.isChunkInArea(chunk)) {
-                return true;
-            }
-        }
-        return false;
+        return cannotBeClaimed(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
     }
 
+    /**
+     * Check if a claimed chunk is blacklisted using only its coordinates, without loading it.
+     */
     public static boolean cannotBeClaimed(ClaimedChunk2 claimedChunk) {
-        return cannotBeClaimed(claimedChunk.getChunk());
+        World world = Bukkit.getWorld(UUID.fromString(claimedChunk.getWorldUUID()));
+        if (world == null) {
+            return false;
+        }
+        return cannotBeClaimed(world.getName(), claimedChunk.getX(), claimedChunk.getZ());
+    }
+
+    public static boolean cannotBeClaimed(String worldName, int chunkX, int chunkZ) {
+        WorldBlackList worldBlackList = blacklistByWorld.get(worldName);
+        return worldBlackList != null && worldBlackList.isBlacklisted(chunkX, chunkZ);
     }
 
 }
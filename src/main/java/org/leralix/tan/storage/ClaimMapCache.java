@@ -0,0 +1,91 @@
+package org.leralix.tan.storage;
+
+import net.md_5.bungee.api.chat.TextComponent;
+import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.dataclass.chunk.ClaimedChunk2;
+import org.leralix.tan.storage.stored.NewClaimedChunkStorage;
+import org.leralix.tan.utils.ChunkUtil;
+import org.leralix.tan.utils.LongObjectMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache of the icons displayed by the claim map, by world and chunk.
+ * <p>
+ * Map icons only depend on the chunk (owner, name and colour of the owner, blacklist), not on the player
+ * looking at the map, so a single icon per chunk is shared by every viewer. Cached icons are never modified:
+ * callers receive a copy they can customize.
+ * <p>
+ * Icons are invalidated when a chunk is claimed or unclaimed, when an owner is renamed or changes colour,
+ * and when the configuration or translations are reloaded.
+ */
+public class ClaimMapCache {
+
+    /**
+     * Maximum number of cached icons. When reached, the cache is emptied.
+     */
+    private static final int MAX_CACHED_ICONS = 50_000;
+
+    private final Map<UUID, LongObjectMap<TextComponent>> icons = new HashMap<>();
+    private int nbCachedIcons = 0;
+
+    private static ClaimMapCache instance;
+
+    private ClaimMapCache() {
+    }
+
+    public static synchronized ClaimMapCache getInstance() {
+        if (instance == null) {
+            instance = new ClaimMapCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the map icon of a chunk. The chunk does not need to be loaded.
+     * @param worldUUID the world of the chunk
+     * @param x         the x coordinate of the chunk
+     * @param z         the z coordinate of the chunk
+     * @param viewer    the player looking at the map
+     * @return a copy of the cached icon, free to be modified
+     */
+    public TextComponent getIcon(UUID worldUUID, int x, int z, ITanPlayer viewer) {
+        long key = ChunkUtil.getChunkKey(x, z);
+        LongObjectMap<TextComponent> worldIcons = icons.get(worldUUID);
+        TextComponent icon = worldIcons == null ? null : worldIcons.get(key);
+        if (icon == null) {
+            if (nbCachedIcons >= MAX_CACHED_ICONS) {
+                clear();
+            }
+            ClaimedChunk2 claimedChunk = NewClaimedChunkStorage.getInstance().get(worldUUID, x, z);
+            icon = claimedChunk.getMapIcon(viewer);
+            icons.computeIfAbsent(worldUUID, k -> new LongObjectMap<>()).put(key, icon);
+            nbCachedIcons++;
+        }
+        return icon.duplicate();
+    }
+
+    public void invalidate(String worldUUID, int x, int z) {
+        LongObjectMap<TextComponent> worldIcons = icons.get(UUID.fromString(worldUUID));
+        if (worldIcons != null && worldIcons.remove(ChunkUtil.getChunkKey(x, z)) != null) {
+            nbCachedIcons--;
+        }
+    }
+
+    /**
+     * Invalidate the icons of every chunk claimed by a territory or landmark.
+     * @param ownerID the ID of the owner
+     */
+    public void invalidateOwner(String ownerID) {
+        for (ClaimedChunk2 claimedChunk : NewClaimedChunkStorage.getInstance().getAllChunkFrom(ownerID)) {
+            invalidate(claimedChunk.getWorldUUID(), claimedChunk.getX(), claimedChunk.getZ());
+        }
+    }
+
+    public void clear() {
+        icons.clear();
+        nbCachedIcons = 0;
+    }
+}
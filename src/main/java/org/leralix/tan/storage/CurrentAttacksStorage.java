@@ -1,21 +1,38 @@
 package org.leralix.tan.storage;
 
+import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.wars.CurrentAttack;
 import org.leralix.tan.dataclass.wars.PlannedAttack;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 public class CurrentAttacksStorage {
     private static final Map<String, CurrentAttack> attackStatusMap = new HashMap<>();
 
+    /**
+     * Players fighting in each current attack, by attack ID.
+     */
+    private static final Map<String, Set<String>> playersByAttack = new HashMap<>();
+    /**
+     * Territories defending in the attacks each player fights in, by player ID.
+     */
+    private static final Map<String, Set<String>> enemiesByPlayer = new HashMap<>();
+    /**
+     * Territories involved, on any side, in the attacks each player fights in, by player ID.
+     */
+    private static final Map<String, Set<String>> territoriesByPlayer = new HashMap<>();
+
     public static void startAttack(PlannedAttack plannedAttack){
         String newID = getNextID();
         attackStatusMap.put(newID, new CurrentAttack(newID, plannedAttack));
+        updateMembershipIndex();
+        PermissionDecisionCache.getInstance().invalidateAll();
     }
 
     public static void remove(CurrentAttack currentAttacks){
         attackStatusMap.remove(currentAttacks.getId());
+        updateMembershipIndex();
+        PermissionDecisionCache.getInstance().invalidateAll();
     }
 
     private static String getNextID(){
@@ -29,4 +46,59 @@ public class CurrentAttacksStorage {
     public static CurrentAttack get(String id) {
         return attackStatusMap.get(id);
     }
+
+    /**
+     * Compute again which players fight in current attacks.
+     * Must be called when an attack starts or ends, and when the members of a territory change.
+     */
+    public static void updateMembershipIndex(){
+        playersByAttack.clear();
+        enemiesByPlayer.clear();
+        territoriesByPlayer.clear();
+
+        for(CurrentAttack currentAttack : attackStatusMap.values()){
+            Set<String> involvedTerritories = new HashSet<>();
+            Set<String> defenders = new HashSet<>();
+            Set<String> players = new HashSet<>();
+            for(TerritoryData territoryData : currentAttack.getAttackers()){
+                involvedTerritories.add(territoryData.getID());
+                players.addAll(territoryData.getPlayerIDList());
+            }
+            for(TerritoryData territoryData : currentAttack.getDefenders()){
+                involvedTerritories.add(territoryData.getID());
+                defenders.add(territoryData.getID());
+                players.addAll(territoryData.getPlayerIDList());
+            }
+
+            playersByAttack.put(currentAttack.getId(), players);
+            for(String playerID : players){
+                enemiesByPlayer.computeIfAbsent(playerID, k -> new HashSet<>()).addAll(defenders);
+                territoriesByPlayer.computeIfAbsent(playerID, k -> new HashSet<>()).addAll(involvedTerritories);
+            }
+        }
+    }
+
+    /**
+     * @return true if the player fights in a current attack
+     */
+    public static boolean isPlayerInAttack(String attackID, String playerID){
+        Set<String> players = playersByAttack.get(attackID);
+        return players != null && players.contains(playerID);
+    }
+
+    /**
+     * @return true if the player fights in a current attack where the territory defends
+     */
+    public static boolean isAtWarWith(String playerID, String territoryID){
+        Set<String> enemies = enemiesByPlayer.get(playerID);
+        return enemies != null && enemies.contains(territoryID);
+    }
+
+    /**
+     * @return true if the player fights in a current attack where the territory is involved, on any side
+     */
+    public static boolean isFightingIn(String playerID, String territoryID){
+        Set<String> territories = territoriesByPlayer.get(playerID);
+        return territories != null && territories.contains(territoryID);
+    }
 }
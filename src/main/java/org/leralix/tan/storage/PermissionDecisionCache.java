@@ -0,0 +1,109 @@
+package org.leralix.tan.storage;
+
+import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.dataclass.territory.TerritoryData;
+import org.leralix.tan.dataclass.territory.TownData;
+import org.leralix.tan.enums.permissions.ChunkPermissionType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Short-lived cache of the chunk permission decisions of players, by owner territory and permission type.
+ * <p>
+ * Only the part of a decision depending on territories is cached: membership, relations, chunk permissions
+ * and attacks. Checks depending on the location (properties, WorldGuard) are always evaluated.
+ * <p>
+ * A decision is stamped with the town and region of the player and with the version of the owner territory and
+ * of those territories, so joining another territory or any change marking one of them dirty makes it stale.
+ * Versions alone are not enough: two different territories can have the same version. Attacks starting or ending invalidate every decision.
+ * Decisions also expire after a few seconds, for changes not tracked by versions.
+ * <p>
+ * Must only be used on the main thread.
+ */
+public class PermissionDecisionCache {
+
+    private static final long DECISION_LIFETIME_MS = 5_000;
+
+    private record Decision(boolean allowed, int ownerVersion, String townID, int townVersion,
+                            String regionID, int regionVersion, int generation, long expiresAt) {
+    }
+
+    /**
+     * Decisions by player ID, then by owner territory ID.
+     */
+    private final Map<String, Map<String, EnumMap<ChunkPermissionType, Decision>>> decisions = new HashMap<>();
+    private int generation = 0;
+
+    private static PermissionDecisionCache instance;
+
+    private PermissionDecisionCache() {
+    }
+
+    public static synchronized PermissionDecisionCache getInstance() {
+        if (instance == null) {
+            instance = new PermissionDecisionCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the decision of a player doing an action in a territory, computing it if it is not cached or stale.
+     * @param tanPlayer      the player doing the action
+     * @param owner          the territory owning the chunk
+     * @param permissionType the action
+     * @param decision       computes the decision. Must only depend on territories, not on the location
+     * @return true if the player can do the action
+     */
+    public boolean isAllowed(ITanPlayer tanPlayer, TerritoryData owner, ChunkPermissionType permissionType, BooleanSupplier decision) {
+        TownData town = tanPlayer.getTown();
+        TerritoryData region = town != null && town.haveOverlord() ? town.getOverlord() : null;
+        int ownerVersion = owner.getVersion();
+        String townID = town == null ? null : town.getID();
+        String regionID = region == null ? null : region.getID();
+        int townVersion = town == null ? -1 : town.getVersion();
+        int regionVersion = region == null ? -1 : region.getVersion();
+        long now = System.currentTimeMillis();
+
+        EnumMap<ChunkPermissionType, Decision> ownerDecisions = decisions
+                .computeIfAbsent(tanPlayer.getID(), k -> new HashMap<>())
+                .computeIfAbsent(owner.getID(), k -> new EnumMap<>(ChunkPermissionType.class));
+
+        Decision cached = ownerDecisions.get(permissionType);
+        if (cached != null
+                && cached.expiresAt > now
+                && cached.generation == generation
+                && cached.ownerVersion == ownerVersion
+                && Objects.equals(cached.townID, townID)
+                && cached.townVersion == townVersion
+                && Objects.equals(cached.regionID, regionID)
+                && cached.regionVersion == regionVersion) {
+            return cached.allowed;
+        }
+
+        boolean allowed = decision.getAsBoolean();
+        ownerDecisions.put(permissionType,
+                new Decision(allowed, ownerVersion, townID, townVersion, regionID, regionVersion,
+                        generation, now + DECISION_LIFETIME_MS));
+        return allowed;
+    }
+
+    /**
+     * Forget the decisions of a player who left.
+     * @param playerID the ID of the player
+     */
+    public void removePlayer(String playerID) {
+        decisions.remove(playerID);
+    }
+
+    /**
+     * Make every cached decision stale.
+     */
+    public void invalidateAll() {
+        generation++;
+        decisions.clear();
+    }
+}
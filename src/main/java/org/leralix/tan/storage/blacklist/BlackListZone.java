@@ -1,10 +1,8 @@
 package org.leralix.tan.storage.blacklist;
 
-import org.bukkit.Chunk;
-
 import java.util.List;
 
-public class BlackListZone implements IBlackList{
+public class BlackListZone {
     String worldName;
     int xMin;
     int zMin;
@@ -25,7 +23,7 @@ public class BlackListZone implements IBlackList{
         zMax = Math.max(z1, z2);
     }
 
-    public boolean isChunkInArea(Chunk chunk) {
-        return chunk.getWorld().getName().equals(worldName) && chunk.getX() >= xMin && chunk.getX() <= xMax && chunk.getZ() >= zMin && chunk.getZ() <= zMax;
+    public boolean contains(int chunkX, int chunkZ) {
+        return chunkX >= xMin && chunkX <= xMax && chunkZ >= zMin && chunkZ <= zMax;
     }
 }
@@ -1,8 +0,0 @@
-package org.leralix.tan.storage.blacklist;
-
-import org.bukkit.Chunk;
-
-public interface IBlackList {
-
-    public boolean isChunkInArea(Chunk chunk);
-}
@@ -0,0 +1,75 @@
+package org.leralix.tan.storage.blacklist;
+
+import org.leralix.tan.utils.ChunkUtil;
+import org.leralix.tan.utils.LongObjectMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blacklisted areas of a single world, indexed by chunk coordinates.
+ * <p>
+ * Zones are stored in every cell of a coarse grid they overlap, so checking a chunk only tests the zones
+ * of its cell. Zones too large to be copied in every cell they overlap are tested for every chunk.
+ */
+public class WorldBlackList {
+
+    /**
+     * Cells are 64 x 64 chunks.
+     */
+    private static final int CELL_SHIFT = 6;
+    private static final int MAX_CELLS_PER_ZONE = 256;
+
+    private boolean wholeWorld = false;
+    private final LongObjectMap<List<BlackListZone>> zonesByCell = new LongObjectMap<>();
+    private final List<BlackListZone> largeZones = new ArrayList<>();
+
+    public void blacklistWholeWorld() {
+        wholeWorld = true;
+    }
+
+    public void addZone(BlackListZone zone) {
+        int cellXMin = zone.xMin >> CELL_SHIFT;
+        int cellXMax = zone.xMax >> CELL_SHIFT;
+        int cellZMin = zone.zMin >> CELL_SHIFT;
+        int cellZMax = zone.zMax >> CELL_SHIFT;
+
+        long nbCells = (long) (cellXMax - cellXMin + 1) * (cellZMax - cellZMin + 1);
+        if (nbCells > MAX_CELLS_PER_ZONE) {
+            largeZones.add(zone);
+            return;
+        }
+
+        for (int cellX = cellXMin; cellX <= cellXMax; cellX++) {
+            for (int cellZ = cellZMin; cellZ <= cellZMax; cellZ++) {
+                long key = ChunkUtil.getChunkKey(cellX, cellZ);
+                List<BlackListZone> zones = zonesByCell.get(key);
+                if (zones == null) {
+                    zones = new ArrayList<>(1);
+                    zonesByCell.put(key, zones);
+                }
+                zones.add(zone);
+            }
+        }
+    }
+
+    public boolean isBlacklisted(int chunkX, int chunkZ) {
+        if (wholeWorld) {
+            return true;
+        }
+        List<BlackListZone> zones = zonesByCell.get(ChunkUtil.getChunkKey(chunkX >> CELL_SHIFT, chunkZ >> CELL_SHIFT));
+        if (zones != null) {
+            for (BlackListZone zone : zones) {
+                if (zone.contains(chunkX, chunkZ)) {
+                    return true;
+                }
+            }
+        }
+        for (BlackListZone zone : largeZones) {
+            if (zone.contains(chunkX, chunkZ)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
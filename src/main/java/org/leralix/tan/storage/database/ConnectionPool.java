@@ -0,0 +1,360 @@
+package org.leralix.tan.storage.database;
+
+import org.leralix.tan.TownsAndNations;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of database connections.
+ * <p>
+ * Connections given by {@link #getConnection()} are borrowed from the pool: closing them gives them back instead
+ * of closing the physical connection. At most {@code maxSize} connections are opened at the same time, callers
+ * wait up to {@link #CONNECTION_TIMEOUT_MS} for one to be available.
+ * <p>
+ * Connections idle for a while are validated before being lent again, and closed once idle for
+ * {@link #IDLE_TIMEOUT_MS}. Connections borrowed for more than {@link #LEAK_THRESHOLD_MS} are reported as leaks.
+ */
+public class ConnectionPool implements DataSource {
+
+    private static final long CONNECTION_TIMEOUT_MS = 10_000;
+    private static final long IDLE_TIMEOUT_MS = 10 * 60 * 1000L;
+    private static final long LEAK_THRESHOLD_MS = 60_000;
+    /**
+     * Connections used less than this delay ago are considered valid without checking them.
+     */
+    private static final long VALIDATION_BYPASS_MS = 500;
+    private static final int VALIDATION_TIMEOUT_S = 5;
+    private static final long HOUSEKEEPING_PERIOD_S = 30;
+
+    private final DataSource source;
+    private final int maxSize;
+    private final Semaphore permits;
+    /**
+     * Idle connections, most recently used first.
+     */
+    private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicLong nbBorrows = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong nbTimeouts = new AtomicLong();
+    private final AtomicLong nbLeaks = new AtomicLong();
+
+    private volatile boolean closed = false;
+
+    public ConnectionPool(DataSource source, int maxSize) {
+        this.source = source;
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TaN - Database pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleAtFixedRate(this::housekeeping, HOUSEKEEPING_PERIOD_S, HOUSEKEEPING_PERIOD_S, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                nbTimeouts.incrementAndGet();
+                throw new SQLTimeoutException("No database connection available after " + CONNECTION_TIMEOUT_MS + "ms (" + maxSize + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - start);
+        nbBorrows.incrementAndGet();
+
+        try {
+            PooledConnection pooledConnection = new PooledConnection(takeValidConnection());
+            activeConnections.add(pooledConnection);
+            return pooledConnection.proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the credentials of the pool");
+    }
+
+    /**
+     * Take the most recently used idle connection still valid, or open a new one.
+     */
+    private Connection takeValidConnection() throws SQLException {
+        while (true) {
+            IdleConnection idleConnection;
+            synchronized (idleConnections) {
+                idleConnection = idleConnections.pollFirst();
+            }
+            if (idleConnection == null) {
+                return source.getConnection();
+            }
+            if (System.currentTimeMillis() - idleConnection.idleSince < VALIDATION_BYPASS_MS || isValid(idleConnection.connection)) {
+                return idleConnection.connection;
+            }
+            closeQuietly(idleConnection.connection);
+        }
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT_S);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooledConnection) {
+        activeConnections.remove(pooledConnection);
+        Connection connection = pooledConnection.connection;
+        try {
+            if (closed || connection.isClosed()) {
+                closeQuietly(connection);
+                return;
+            }
+            // A connection must be lent in its default state
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            synchronized (idleConnections) {
+                idleConnections.offerFirst(new IdleConnection(connection, System.currentTimeMillis()));
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void housekeeping() {
+        long now = System.currentTimeMillis();
+        synchronized (idleConnections) {
+            // Least recently used connections are at the end of the deque
+            Iterator<IdleConnection> iterator = idleConnections.descendingIterator();
+            while (iterator.hasNext()) {
+                IdleConnection idleConnection = iterator.next();
+                if (now - idleConnection.idleSince < IDLE_TIMEOUT_MS) {
+                    break;
+                }
+                iterator.remove();
+                closeQuietly(idleConnection.connection);
+            }
+        }
+
+        for (PooledConnection pooledConnection : activeConnections) {
+            if (!pooledConnection.leakReported && now - pooledConnection.borrowedAt > LEAK_THRESHOLD_MS) {
+                pooledConnection.leakReported = true;
+                nbLeaks.incrementAndGet();
+                TownsAndNations.getPlugin().getLogger().warning("[TaN] Database connection borrowed by thread "
+                        + pooledConnection.borrowerThread + " has not been returned for " + (now - pooledConnection.borrowedAt) / 1000 + "s");
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // The connection is discarded anyway
+        }
+    }
+
+    public int getActiveConnections() {
+        return activeConnections.size();
+    }
+
+    public int getIdleConnections() {
+        synchronized (idleConnections) {
+            return idleConnections.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getNbBorrows() {
+        return nbBorrows.get();
+    }
+
+    /**
+     * @return the average time spent waiting for a connection, in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long borrows = nbBorrows.get();
+        return borrows == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+    }
+
+    public long getNbTimeouts() {
+        return nbTimeouts.get();
+    }
+
+    public long getNbLeaks() {
+        return nbLeaks.get();
+    }
+
+    public String getStats() {
+        return String.format("%d active, %d idle, max %d, %d borrows, %.2fms average wait, %d timeouts, %d leaks",
+                getActiveConnections(), getIdleConnections(), maxSize, getNbBorrows(), getAverageWaitMillis(), getNbTimeouts(), getNbLeaks());
+    }
+
+    /**
+     * Close every connection of the pool.
+     * Borrowed connections are given a few seconds to be returned before being closed.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        housekeeper.shutdownNow();
+        try {
+            if (!permits.tryAcquire(maxSize, 5, TimeUnit.SECONDS)) {
+                TownsAndNations.getPlugin().getLogger().warning("[TaN] Closing " + activeConnections.size() + " database connections still in use");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closed = true;
+        synchronized (idleConnections) {
+            for (IdleConnection idleConnection : idleConnections) {
+                closeQuietly(idleConnection.connection);
+            }
+            idleConnections.clear();
+        }
+        for (PooledConnection pooledConnection : activeConnections) {
+            closeQuietly(pooledConnection.connection);
+        }
+        activeConnections.clear();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return source.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        source.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        source.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return source.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return source.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return source.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || source.isWrapperFor(iface);
+    }
+
+    private record IdleConnection(Connection connection, long idleSince) {
+    }
+
+    /**
+     * Connection lent by the pool. Closing it gives the physical connection back to the pool,
+     * any other use after that fails.
+     */
+    private class PooledConnection implements InvocationHandler {
+
+        private final Connection connection;
+        private final Connection proxy;
+        private final long borrowedAt = System.currentTimeMillis();
+        private final String borrowerThread = Thread.currentThread().getName();
+        private volatile boolean leakReported = false;
+        private boolean returned = false;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(this);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || connection.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + connection;
+                }
+                default -> {
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -8,75 +8,135 @@ import org.leralix.tan.dataclass.territory.TerritoryData;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class DatabaseHandler {
 
-    protected DataSource dataSource;
+    /**
+     * Pool of connections to the database. Connections taken from it must be closed to be given back.
+     */
+    protected ConnectionPool dataSource;
+
+    protected static final String HISTORY_TABLE = "territoryTransactionHistory";
+    /**
+     * Current version of the history table. Increase it when adding a migration step to {@link #migrateHistoryTable()}.
+     */
+    private static final int HISTORY_SCHEMA_VERSION = 1;
+    /**
+     * Writer thread batching transaction history inserts. Created once the database is initialized.
+     */
+    private TransactionHistoryWriter historyWriter;
 
 
     public abstract void connect() throws SQLException;
 
+    /**
+     * Create the connection pool on top of the given data source.
+     * @param source    data source used to open physical connections
+     * @param maxSize   maximum number of connections opened at the same time
+     */
+    protected void createPool(DataSource source, int maxSize) {
+        this.dataSource = new ConnectionPool(source, maxSize);
+    }
+
 
+    /**
+     * Queue a transaction history to be written by the history writer thread.
+     * @param transactionHistory the transaction history to save
+     */
     public void addTransactionHistory(TransactionHistory transactionHistory) {
-        Bukkit.getScheduler().runTaskAsynchronously(TownsAndNations.getPlugin(), () -> {
-            checkIfHistoryDbExists();
-            String insertSQL = """
-                INSERT INTO territoryTransactionHistory (date, type, territoryDataID, transactionParty, amount)
-                VALUES (?, ?, ?, ?, ?)
-            """;
-
-            try (PreparedStatement preparedStatement = dataSource.getConnection().prepareStatement(insertSQL)) {
-                preparedStatement.setString(1, transactionHistory.getDate());
-                preparedStatement.setString(2, transactionHistory.getType().toString());
-                preparedStatement.setString(3, transactionHistory.getTerritoryDataID());
-                preparedStatement.setString(4, transactionHistory.getTransactionParty());
-                preparedStatement.setDouble(5, transactionHistory.getAmount());
-
-                preparedStatement.executeUpdate();
-            } catch (SQLException e) {
-                TownsAndNations.getPlugin().getLogger().severe("Error while adding transaction history");
-            }
-        });
+        if (historyWriter == null) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while adding transaction history: database is not connected");
+            return;
+        }
+        historyWriter.add(transactionHistory);
     }
 
-    public List<List<TransactionHistory>> getTransactionHistory(TerritoryData territoryData, TransactionHistoryEnum type) {
-        String selectSQL = """
-        SELECT date, type, territoryDataID, transactionParty, amount
+    /**
+     * Load a page of the transaction history of a territory, asynchronously.
+     * Transactions are grouped by day, most recent day first.
+     * @param territoryData the territory
+     * @param type          the type of transaction
+     * @param page          index of the page, starting at 0
+     * @param pageSize      number of days in a page
+     * @return a future completed, outside the main thread, with the requested page
+     */
+    public CompletableFuture<TransactionHistoryPage> getTransactionHistory(TerritoryData territoryData, TransactionHistoryEnum type, int page, int pageSize) {
+        String territoryID = territoryData.getID();
+        return CompletableFuture.supplyAsync(
+                () -> loadTransactionHistory(territoryID, type, page, pageSize),
+                runnable -> Bukkit.getScheduler().runTaskAsynchronously(TownsAndNations.getPlugin(), runnable)
+        );
+    }
+
+    private TransactionHistoryPage loadTransactionHistory(String territoryID, TransactionHistoryEnum type, int page, int pageSize) {
+        // One more day than needed is requested to know if there is a next page
+        String daysSQL = """
+        SELECT day
         FROM territoryTransactionHistory
         WHERE territoryDataID = ? AND type = ?
-        ORDER BY date
+        GROUP BY day
+        ORDER BY day DESC
+        LIMIT ? OFFSET ?
+    """;
+        String selectSQL = """
+        SELECT date, type, territoryDataID, transactionParty, amount, day
+        FROM territoryTransactionHistory
+        WHERE territoryDataID = ? AND type = ? AND day BETWEEN ? AND ?
+        ORDER BY day DESC
     """;
 
-        // Map pour regrouper les transactions par date
-        Map<String, List<TransactionHistory>> groupedByDate = new HashMap<>();
-
-        try (PreparedStatement preparedStatement = dataSource.getConnection().prepareStatement(selectSQL)) {
-            preparedStatement.setString(1, territoryData.getID());
-            preparedStatement.setString(2, type.toString());
+        try (Connection connection = dataSource.getConnection()) {
+            List<Long> days = new ArrayList<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(daysSQL)) {
+                preparedStatement.setString(1, territoryID);
+                preparedStatement.setString(2, type.toString());
+                preparedStatement.setInt(3, pageSize + 1);
+                preparedStatement.setInt(4, page * pageSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        days.add(resultSet.getLong("day"));
+                    }
+                }
+            }
+            boolean lastPage = days.size() <= pageSize;
+            if (days.isEmpty()) {
+                return new TransactionHistoryPage(List.of(), true);
+            }
+            if (!lastPage) {
+                days.remove(pageSize);
+            }
 
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    String date = resultSet.getString("date");
-                    TransactionHistoryEnum transactionHistoryEnum = TransactionHistoryEnum.valueOf(resultSet.getString("type"));
-                    String territoryDataID = resultSet.getString("territoryDataID");
-                    String transactionParty = resultSet.getString("transactionParty");
-                    double amount = resultSet.getDouble("amount");
-
-                    TransactionHistory transactionHistory = transactionHistoryEnum.createTransactionHistory(
-                            date, territoryDataID, transactionParty, amount
-                    );
-
-                    groupedByDate.computeIfAbsent(date, k -> new ArrayList<>()).add(transactionHistory);
+            Map<Long, List<TransactionHistory>> groupedByDay = new LinkedHashMap<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectSQL)) {
+                preparedStatement.setString(1, territoryID);
+                preparedStatement.setString(2, type.toString());
+                preparedStatement.setLong(3, days.get(days.size() - 1));
+                preparedStatement.setLong(4, days.get(0));
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        TransactionHistory transactionHistory = type.createTransactionHistory(
+                                resultSet.getString("date"),
+                                resultSet.getString("territoryDataID"),
+                                resultSet.getString("transactionParty"),
+                                resultSet.getDouble("amount")
+                        );
+                        groupedByDay.computeIfAbsent(resultSet.getLong("day"), k -> new ArrayList<>()).add(transactionHistory);
+                    }
                 }
             }
+            return new TransactionHistoryPage(new ArrayList<>(groupedByDay.values()), lastPage);
         } catch (SQLException e) {
             TownsAndNations.getPlugin().getLogger().severe("Error while getting transaction history");
+            return new TransactionHistoryPage(List.of(), true);
         }
-        return new ArrayList<>(groupedByDate.values());
     }
 
     public void deleteOldHistory(int nbDays, TransactionHistoryEnum type) {
@@ -86,7 +146,8 @@ public abstract class DatabaseHandler {
         AND type != ?
     """;
 
-        try (PreparedStatement preparedStatement = dataSource.getConnection().prepareStatement(deleteSQL)) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
             preparedStatement.setInt(1, nbDays);
             preparedStatement.setString(1, type.toString());
         } catch (SQLException e) {
@@ -95,7 +156,8 @@ public abstract class DatabaseHandler {
     }
 
     protected void checkIfHistoryDbExists() {
-        try (Statement statement = dataSource.getConnection().createStatement()) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
             statement.execute("""
                 CREATE TABLE IF NOT EXISTS territoryTransactionHistory (
                 date TEXT,
@@ -110,12 +172,149 @@ public abstract class DatabaseHandler {
         }
     }
 
+    /**
+     * Bring the history table up to {@link #HISTORY_SCHEMA_VERSION}.
+     * The version of each table is stored in the {@code schemaVersion} table, each step is only run once.
+     */
+    protected void migrateHistoryTable() {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                    CREATE TABLE IF NOT EXISTS schemaVersion (
+                    tableName VARCHAR(64) PRIMARY KEY,
+                    version INTEGER NOT NULL
+                )
+                """);
+            }
+            int version = getSchemaVersion(connection, HISTORY_TABLE);
+            if (version < 1) {
+                addDayColumn(connection);
+            }
+            if (version != HISTORY_SCHEMA_VERSION) {
+                setSchemaVersion(connection, HISTORY_TABLE, HISTORY_SCHEMA_VERSION);
+            }
+        } catch (SQLException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while migrating history table: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Migration to version 1.
+     * Dates are stored as "dd MM yyyy" text, which cannot be sorted. A {@code day} column storing the epoch day
+     * is added and filled, and the table is indexed on (territoryDataID, type, day).
+     */
+    private void addDayColumn(Connection connection) throws SQLException {
+        if (!hasColumn(connection, HISTORY_TABLE, "day")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + HISTORY_TABLE + " ADD COLUMN day INTEGER");
+            }
+        }
+
+        List<String> dates = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DISTINCT date FROM " + HISTORY_TABLE)) {
+            while (resultSet.next()) {
+                dates.add(resultSet.getString("date"));
+            }
+        }
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MM yyyy");
+        connection.setAutoCommit(false);
+        try (PreparedStatement preparedStatement = connection.prepareStatement("UPDATE " + HISTORY_TABLE + " SET day = ? WHERE date = ?")) {
+            for (String date : dates) {
+                long day;
+                try {
+                    day = LocalDate.parse(date, formatter).toEpochDay();
+                } catch (DateTimeParseException | NullPointerException e) {
+                    day = 0;
+                }
+                preparedStatement.setLong(1, day);
+                preparedStatement.setString(2, date);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(getHistoryIndexSQL());
+        }
+        TownsAndNations.getPlugin().getLogger().info("[TaN] -Transaction history indexed (" + dates.size() + " days)");
+    }
+
+    /**
+     * @return the statement creating the index used to query the history of a territory
+     */
+    protected String getHistoryIndexSQL() {
+        return "CREATE INDEX IF NOT EXISTS idx_history_territory_type_day ON " + HISTORY_TABLE + " (territoryDataID, type, day)";
+    }
+
+    private static boolean hasColumn(Connection connection, String tableName, String columnName) {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT " + columnName + " FROM " + tableName + " WHERE 1 = 0").close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static int getSchemaVersion(Connection connection, String tableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT version FROM schemaVersion WHERE tableName = ?")) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt("version") : 0;
+            }
+        }
+    }
+
+    private static void setSchemaVersion(Connection connection, String tableName, int version) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM schemaVersion WHERE tableName = ?");
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO schemaVersion (tableName, version) VALUES (?, ?)")) {
+            delete.setString(1, tableName);
+            delete.executeUpdate();
+            insert.setString(1, tableName);
+            insert.setInt(2, version);
+            insert.executeUpdate();
+        }
+    }
+
     public void initialize() {
         checkIfHistoryDbExists();
+        migrateHistoryTable();
+        historyWriter = new TransactionHistoryWriter(dataSource);
     }
 
     public DataSource getDataSource() {
         return dataSource;
     }
 
+    public ConnectionPool getConnectionPool() {
+        return dataSource;
+    }
+
+    public TransactionHistoryWriter getHistoryWriter() {
+        return historyWriter;
+    }
+
+    /**
+     * Write every queued transaction history and close every connection to the database.
+     * Used when the plugin is disabled.
+     */
+    public void close() {
+        if (historyWriter != null) {
+            historyWriter.close();
+            TownsAndNations.getPlugin().getLogger().info("[TaN] -Transaction history writer stopped (" + historyWriter.getStats() + ")");
+        }
+        if (dataSource == null) {
+            return;
+        }
+        TownsAndNations.getPlugin().getLogger().info("[TaN] -Closing database connections (" + dataSource.getStats() + ")");
+        dataSource.close();
+    }
+
 }
@@ -6,6 +6,8 @@ import java.sql.SQLException;
 
 public class MySqlHandler extends DatabaseHandler {
 
+    private static final int MAX_CONNECTIONS = 10;
+
     private final String host;
     private final int port;
     private final String databaseName;
@@ -40,8 +42,14 @@ public class MySqlHandler extends DatabaseHandler {
         ds.setPassword(password);
         ds.setUseSSL(true);
 
-        this.dataSource = ds;
+        createPool(ds, MAX_CONNECTIONS);
         initialize();
     }
 
+    @Override
+    protected String getHistoryIndexSQL() {
+        // MySQL can only index a prefix of TEXT columns
+        return "CREATE INDEX idx_history_territory_type_day ON " + HISTORY_TABLE + " (territoryDataID(64), type(32), day)";
+    }
+
 }
@@ -9,6 +9,15 @@ import java.sql.*;
 
 public class SQLiteHandler extends DatabaseHandler {
 
+    /**
+     * SQLite only allows one writer at a time, a few connections are enough for concurrent reads.
+     */
+    private static final int MAX_CONNECTIONS = 4;
+    /**
+     * Time a connection waits for the write lock held by another connection before failing.
+     */
+    private static final int BUSY_TIMEOUT_MS = 5000;
+
     private final String databasePath;
 
     public SQLiteHandler(String databasePath) {
@@ -34,7 +43,8 @@ public class SQLiteHandler extends DatabaseHandler {
 
         SQLiteDataSource sqLiteDataSource = new SQLiteDataSource();
         sqLiteDataSource.setUrl("jdbc:sqlite:" + databasePath);
-        this.dataSource = sqLiteDataSource;
+        sqLiteDataSource.setBusyTimeout(BUSY_TIMEOUT_MS);
+        createPool(sqLiteDataSource, MAX_CONNECTIONS);
         initialize();
     }
 }
@@ -0,0 +1,13 @@
+package org.leralix.tan.storage.database;
+
+import org.leralix.tan.dataclass.newhistory.TransactionHistory;
+
+import java.util.List;
+
+/**
+ * A page of the transaction history of a territory.
+ * @param days      transactions of each day of the page, most recent day first
+ * @param lastPage  true if there are no older days
+ */
+public record TransactionHistoryPage(List<List<TransactionHistory>> days, boolean lastPage) {
+}
@@ -0,0 +1,195 @@
+package org.leralix.tan.storage.database;
+
+import org.leralix.tan.TownsAndNations;
+import org.leralix.tan.dataclass.newhistory.TransactionHistory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Writes transaction histories to the database from a single background thread.
+ * <p>
+ * Histories are queued in a bounded queue. The writer thread takes every queued history, up to {@link #MAX_BATCH_SIZE},
+ * and inserts them in a single batch and transaction. Histories are mostly added from the main thread, which must never
+ * wait for the database: when the queue is full, new histories are dropped and counted in the metrics.
+ * A history that cannot be written, for example because of a malformed date, is counted as failed without
+ * stopping the writer thread.
+ */
+public class TransactionHistoryWriter {
+
+    private static final int QUEUE_CAPACITY = 50_000;
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO territoryTransactionHistory (date, type, territoryDataID, transactionParty, amount, day)
+            VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final DataSource dataSource;
+    private final BlockingQueue<TransactionHistory> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writerThread;
+    /**
+     * Fetched once, so the writer thread never depends on the plugin instance.
+     */
+    private final Logger logger;
+    private volatile boolean running = true;
+
+    private final AtomicLong nbWritten = new AtomicLong();
+    private final AtomicLong nbBatches = new AtomicLong();
+    private final AtomicLong nbFailed = new AtomicLong();
+    private final AtomicLong nbDropped = new AtomicLong();
+    private volatile int maxQueueSize = 0;
+
+    public TransactionHistoryWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.logger = TownsAndNations.getPlugin().getLogger();
+        this.writerThread = new Thread(this::run, "TaN - Transaction history writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queue a transaction history to be written.
+     * Never blocks: if the queue is full, the history is dropped.
+     * @param transactionHistory the transaction history to write
+     */
+    public void add(TransactionHistory transactionHistory) {
+        if (!running) {
+            logger.warning("[TaN] Transaction history added after shutdown, ignoring it");
+            return;
+        }
+        if (!queue.offer(transactionHistory)) {
+            // Only warn once, the database can stay behind for a while
+            if (nbDropped.getAndIncrement() == 0) {
+                logger.warning("[TaN] Transaction history queue is full, new histories are dropped");
+            }
+            return;
+        }
+        int size = queue.size();
+        if (size > maxQueueSize) {
+            maxQueueSize = size;
+        }
+    }
+
+    private void run() {
+        List<TransactionHistory> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                TransactionHistory first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Values of a transaction history, read before opening the connection.
+     */
+    private record Row(TransactionHistory history, String date, String type, long day) {
+    }
+
+    private void write(List<TransactionHistory> batch) {
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (TransactionHistory transactionHistory : batch) {
+            try {
+                String date = transactionHistory.getDate();
+                rows.add(new Row(transactionHistory, date, transactionHistory.getType().toString(), transactionHistory.dateToLong(date)));
+            } catch (RuntimeException e) {
+                nbFailed.incrementAndGet();
+                logger.warning("[TaN] Ignoring malformed transaction history: " + e.getMessage());
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+                for (Row row : rows) {
+                    preparedStatement.setString(1, row.date());
+                    preparedStatement.setString(2, row.type());
+                    preparedStatement.setString(3, row.history().getTerritoryDataID());
+                    preparedStatement.setString(4, row.history().getTransactionParty());
+                    preparedStatement.setDouble(5, row.history().getAmount());
+                    preparedStatement.setLong(6, row.day());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+            nbWritten.addAndGet(rows.size());
+            nbBatches.incrementAndGet();
+        } catch (SQLException | RuntimeException e) {
+            nbFailed.addAndGet(rows.size());
+            logger.severe("[TaN] Error while adding " + rows.size() + " transaction histories: " + e);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getNbWritten() {
+        return nbWritten.get();
+    }
+
+    public long getNbBatches() {
+        return nbBatches.get();
+    }
+
+    public long getNbFailed() {
+        return nbFailed.get();
+    }
+
+    /**
+     * @return the number of histories dropped because the queue was full
+     */
+    public long getNbDropped() {
+        return nbDropped.get();
+    }
+
+    public String getStats() {
+        return String.format("%d written in %d batches, %d failed, %d queued (max %d), %d dropped",
+                getNbWritten(), getNbBatches(), getNbFailed(), getQueueSize(), getMaxQueueSize(), getNbDropped());
+    }
+
+    /**
+     * Write every queued transaction history and stop the writer thread.
+     */
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.severe("[TaN] " + queue.size() + " transaction histories could not be saved before shutdown");
+        }
+    }
+}
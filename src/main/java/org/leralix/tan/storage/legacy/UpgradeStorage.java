@@ -7,6 +7,7 @@ import org.leralix.lib.utils.config.ConfigUtil;
 import org.leralix.tan.dataclass.TownUpgrade;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,14 @@ import java.util.Map;
 public class UpgradeStorage {
 
     private static final HashMap<String, TownUpgrade> UpgradeMap = new HashMap<>();
+    /**
+     * Position of each benefit in the benefit arrays of town levels.
+     */
+    private static final HashMap<String, Integer> BenefitIndex = new HashMap<>();
+    /**
+     * Incremented each time upgrades are loaded, so values computed from them can be recomputed.
+     */
+    private static volatile int generation = 0;
 
     public static void init() {
         FileConfiguration upgradeConfig = ConfigUtil.getCustomConfig(ConfigTag.UPGRADE);
@@ -57,6 +66,14 @@ public class UpgradeStorage {
                 ));
             }
         }
+
+        BenefitIndex.clear();
+        for (TownUpgrade upgrade : UpgradeMap.values()) {
+            for (String benefitName : upgrade.getBenefits().keySet()) {
+                BenefitIndex.putIfAbsent(benefitName, BenefitIndex.size());
+            }
+        }
+        generation++;
     }
 
     public static TownUpgrade getUpgrade(String name) {
@@ -68,6 +85,25 @@ public class UpgradeStorage {
     }
 
 
+    /**
+     * @return the position of a benefit in benefit arrays, or -1 if no upgrade gives it
+     */
+    public static int getBenefitIndex(String benefitName) {
+        return BenefitIndex.getOrDefault(benefitName, -1);
+    }
+
+    public static int getNumberOfBenefits() {
+        return BenefitIndex.size();
+    }
+
+    public static Map<String, Integer> getBenefitIndexes() {
+        return Collections.unmodifiableMap(BenefitIndex);
+    }
+
+    public static int getGeneration() {
+        return generation;
+    }
+
     public static  void loadIntoMap(Map<String,Integer> map){
         for(TownUpgrade upgrade : UpgradeStorage.getUpgrades()){
             map.put(upgrade.getName(),0);
@@ -0,0 +1,244 @@
+package org.leralix.tan.storage.stored;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.leralix.tan.TownsAndNations;
+import org.leralix.tan.dataclass.chunk.ClaimedChunk2;
+import org.leralix.tan.utils.FileUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind persistence of claimed chunks.
+ * <p>
+ * Every claim or unclaim is appended, as a single json line, to a journal file by a background thread.
+ * The main thread only queues the change, so its cost does not depend on the number of claimed chunks.
+ * Calling {@link #compact(Collection)} writes a full snapshot in the claimed chunks file (through an atomic rename)
+ * and empties the journal. When loading, the snapshot is read first and the journal is replayed on top of it.
+ */
+public class ClaimedChunkJournal {
+
+    static final String ACTION = "action";
+    static final String CLAIM = "claim";
+    static final String UNCLAIM = "unclaim";
+    static final String UNCLAIM_ALL = "unclaimAll";
+
+    private final File snapshotFile;
+    private final File journalFile;
+    private final BlockingQueue<Runnable> pendingTasks = new LinkedBlockingQueue<>();
+    private final ThreadPoolExecutor writerThread;
+    private final Gson gson = new Gson();
+    /**
+     * Journal file and writer on it. Only used by the writer thread.
+     */
+    private FileOutputStream journalStream;
+    private Writer journalWriter;
+    /**
+     * Number of changes logged since the last snapshot written successfully.
+     * Incremented by the main thread, decreased by the writer thread once a snapshot is written.
+     */
+    private final AtomicInteger nbChangesSinceSnapshot = new AtomicInteger();
+    /**
+     * True while a snapshot is queued or being written, so the same snapshot is not queued twice.
+     */
+    private final AtomicBoolean snapshotPending = new AtomicBoolean(false);
+
+    public ClaimedChunkJournal(File dataFolder) {
+        this.snapshotFile = new File(dataFolder, "TAN - Claimed Chunks.json");
+        this.journalFile = new File(dataFolder, "TAN - Claimed Chunks.journal");
+        this.writerThread = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, pendingTasks, runnable -> {
+            Thread thread = new Thread(runnable, "TaN - Claimed chunks writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Replay every change stored in the journal.
+     * A truncated last line, left by a crash during a write, is ignored, as well as any line that cannot be applied
+     * (missing field, wrong type, invalid UUID...), so one bad change never prevents the rest from loading.
+     * @param change consumer called for each change, in the order they were logged
+     */
+    public void replay(Consumer<JsonObject> change) {
+        if (!journalFile.exists()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(journalFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    change.accept(JsonParser.parseString(line).getAsJsonObject());
+                    nbChangesSinceSnapshot.incrementAndGet();
+                } catch (RuntimeException e) {
+                    TownsAndNations.getPlugin().getLogger().warning("[TaN] Ignoring corrupted line in claimed chunks journal : " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while reading claimed chunks journal");
+        }
+    }
+
+    public void logClaim(ClaimedChunk2 claimedChunk) {
+        log(CLAIM, claimedChunk);
+    }
+
+    public void logUnclaim(ClaimedChunk2 claimedChunk) {
+        log(UNCLAIM, claimedChunk);
+    }
+
+    public void logUnclaimAll(String ownerID) {
+        nbChangesSinceSnapshot.incrementAndGet();
+        writerThread.execute(() -> {
+            JsonObject change = new JsonObject();
+            change.addProperty(ACTION, UNCLAIM_ALL);
+            change.addProperty("ownerID", ownerID);
+            append(change);
+        });
+    }
+
+    private void log(String action, ClaimedChunk2 claimedChunk) {
+        nbChangesSinceSnapshot.incrementAndGet();
+        writerThread.execute(() -> {
+            JsonObject change = new JsonObject();
+            change.addProperty(ACTION, action);
+            change.addProperty("x", claimedChunk.getX());
+            change.addProperty("z", claimedChunk.getZ());
+            change.addProperty("worldUUID", claimedChunk.getWorldUUID());
+            change.addProperty("ownerID", claimedChunk.getOwnerID());
+            append(change);
+        });
+    }
+
+    private void append(JsonObject change) {
+        try {
+            if (journalWriter == null) {
+                journalStream = new FileOutputStream(journalFile, true);
+                journalWriter = new BufferedWriter(new OutputStreamWriter(journalStream, StandardCharsets.UTF_8));
+            }
+            journalWriter.write(gson.toJson(change));
+            journalWriter.write('\n');
+            // Group commit: only flush and sync once every queued change has been written
+            if (pendingTasks.isEmpty()) {
+                journalWriter.flush();
+                journalStream.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while writing claimed chunks journal");
+        }
+    }
+
+    /**
+     * Write a full snapshot of the claimed chunks and empty the journal.
+     * Nothing is done if no change happened since the last snapshot, or if a snapshot is already queued.
+     * Changes are only considered saved once the snapshot is written, so a failed write is retried on the next call.
+     * @param claimedChunks every claimed chunk of the server. The collection must not be modified afterward.
+     */
+    public void compact(Collection<ClaimedChunk2> claimedChunks) {
+        int nbChanges = nbChangesSinceSnapshot.get();
+        if (nbChanges == 0 && snapshotFile.exists()) {
+            return;
+        }
+        if (!snapshotPending.compareAndSet(false, true)) {
+            return;
+        }
+        writerThread.execute(() -> {
+            try {
+                if (writeSnapshot(claimedChunks)) {
+                    // Changes logged after this call are not part of the snapshot and stay counted
+                    nbChangesSinceSnapshot.addAndGet(-nbChanges);
+                }
+            } finally {
+                snapshotPending.set(false);
+            }
+        });
+    }
+
+    public boolean needsCompaction() {
+        return nbChangesSinceSnapshot.get() > 0;
+    }
+
+    /**
+     * @return true if the snapshot was written
+     */
+    private boolean writeSnapshot(Collection<ClaimedChunk2> claimedChunks) {
+        Map<String, ClaimedChunk2> jsonData = new LinkedHashMap<>();
+        for (ClaimedChunk2 claimedChunk : claimedChunks) {
+            jsonData.put(getChunkKey(claimedChunk), claimedChunk);
+        }
+        Gson prettyGson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            FileUtil.writeAtomically(snapshotFile, writer -> prettyGson.toJson(jsonData, writer));
+        } catch (IOException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while storing claimed chunks in file");
+            return false;
+        }
+        // Every change logged before this snapshot is now part of it
+        closeJournalWriter();
+        if (journalFile.exists() && !journalFile.delete()) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while clearing claimed chunks journal");
+        }
+        return true;
+    }
+
+    private void closeJournalWriter() {
+        if (journalWriter == null) {
+            return;
+        }
+        try {
+            journalWriter.close();
+        } catch (IOException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while closing claimed chunks journal");
+        }
+        journalWriter = null;
+        journalStream = null;
+    }
+
+    /**
+     * Key used in the json file. Kept to stay compatible with previous versions of the file.
+     */
+    private static String getChunkKey(ClaimedChunk2 chunk) {
+        return chunk.getX() + "," + chunk.getZ() + "," + chunk.getWorldUUID();
+    }
+
+    /**
+     * Write every queued change and wait for the writer thread to stop.
+     */
+    public void close() {
+        writerThread.execute(this::closeJournalWriter);
+        writerThread.shutdown();
+        try {
+            if (!writerThread.awaitTermination(30, TimeUnit.SECONDS)) {
+                TownsAndNations.getPlugin().getLogger().severe("Claimed chunks were not fully saved before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
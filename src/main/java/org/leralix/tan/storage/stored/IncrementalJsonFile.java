@@ -0,0 +1,152 @@
+package org.leralix.tan.storage.stored;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.leralix.tan.TownsAndNations;
+import org.leralix.tan.tasks.SaveStats;
+import org.leralix.tan.utils.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Json file storing a map of entities, saved incrementally.
+ * <p>
+ * The last serialized form of each entity is kept in memory. When saving, only entities marked as dirty are
+ * serialized again on the main thread, which gives a consistent snapshot. Turning the snapshot into text and
+ * writing it to disk is done by the {@link SaveStats} writer thread. If nothing changed, nothing is written.
+ * <p>
+ * Every mutator of a stored entity must mark it dirty. A full save, which compares the serialized form of every
+ * entity to the cached one, is only done on explicit requests such as shutdown, never periodically.
+ */
+public class IncrementalJsonFile {
+
+    private final File file;
+    private final Gson gson;
+    /**
+     * Last serialized form of each entity. Elements are never modified once cached, only replaced,
+     * so they can be shared with the writer thread.
+     */
+    private final Map<String, JsonElement> serializedEntities = new HashMap<>();
+    /**
+     * Entities can be marked dirty from any thread, for example when a balance is modified through Vault,
+     * so the set must be concurrent: a plain HashSet could lose marks or be drained while being modified.
+     */
+    private final Set<String> dirtyIDs = ConcurrentHashMap.newKeySet();
+
+    public IncrementalJsonFile(File file, Gson gson) {
+        this.file = file;
+        this.gson = gson;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Mark an entity as modified, created or deleted. It will be serialized again on the next save.
+     * @param id the ID of the entity
+     */
+    public void markDirty(String id) {
+        dirtyIDs.add(id);
+    }
+
+    /**
+     * Cache the serialized form of freshly loaded entities, so the first save does not rewrite an unchanged file.
+     * @param entities every entity of the file
+     */
+    public void prime(Map<String, ?> entities) {
+        serializedEntities.clear();
+        for (Map.Entry<String, ?> entry : entities.entrySet()) {
+            serializedEntities.put(entry.getKey(), gson.toJsonTree(entry.getValue()));
+        }
+        dirtyIDs.clear();
+    }
+
+    /**
+     * Save the entities if any of them changed.
+     * Must be called on the main thread.
+     * @param entities  every entity of the file, in the order they should be written
+     * @param checkAll  if true, every entity is serialized and compared to its cached form instead of only dirty ones
+     */
+    public void save(Map<String, ?> entities, boolean checkAll) {
+        boolean changed;
+        if (checkAll) {
+            // Cleared first, so entities marked during the check are serialized again on the next save
+            dirtyIDs.clear();
+            changed = refreshAll(entities);
+        } else {
+            changed = refreshDirty(entities);
+            // A size mismatch means an entity was added or removed without being marked
+            if (serializedEntities.size() != entities.size()) {
+                changed |= refreshKeys(entities);
+            }
+        }
+        if (!changed && file.exists()) {
+            return;
+        }
+
+        JsonObject snapshot = new JsonObject();
+        for (String id : entities.keySet()) {
+            snapshot.add(id, serializedEntities.get(id));
+        }
+        SaveStats.submit(() -> write(snapshot));
+    }
+
+    private boolean refreshDirty(Map<String, ?> entities) {
+        boolean changed = false;
+        Iterator<String> iterator = dirtyIDs.iterator();
+        while (iterator.hasNext()) {
+            String id = iterator.next();
+            iterator.remove();
+            Object entity = entities.get(id);
+            if (entity == null) {
+                changed |= serializedEntities.remove(id) != null;
+            } else {
+                serializedEntities.put(id, gson.toJsonTree(entity));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Forget removed entities and serialize new ones, without checking the entities already cached.
+     */
+    private boolean refreshKeys(Map<String, ?> entities) {
+        boolean changed = serializedEntities.keySet().retainAll(entities.keySet());
+        for (Map.Entry<String, ?> entry : entities.entrySet()) {
+            if (!serializedEntities.containsKey(entry.getKey())) {
+                serializedEntities.put(entry.getKey(), gson.toJsonTree(entry.getValue()));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean refreshAll(Map<String, ?> entities) {
+        boolean changed = serializedEntities.keySet().retainAll(entities.keySet());
+        for (Map.Entry<String, ?> entry : entities.entrySet()) {
+            JsonElement serializedEntity = gson.toJsonTree(entry.getValue());
+            if (!serializedEntity.equals(serializedEntities.get(entry.getKey()))) {
+                serializedEntities.put(entry.getKey(), serializedEntity);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void write(JsonObject snapshot) {
+        try {
+            FileUtil.writeAtomically(file, writer -> gson.toJson(snapshot, writer));
+        } catch (IOException e) {
+            TownsAndNations.getPlugin().getLogger().severe("Error while saving " + file.getName());
+        }
+    }
+}
@@ -18,6 +18,9 @@ public class LandmarkStorage {
 
     private Map<String, Landmark> landMarkMap;
     private int newLandmarkID;
+    private final IncrementalJsonFile jsonFile = new IncrementalJsonFile(
+            new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Landmarks.json"),
+            new GsonBuilder().setPrettyPrinting().create());
 
 
     private static LandmarkStorage instance;
@@ -50,7 +53,8 @@ public class LandmarkStorage {
         landMarkMap.put(landmarkID, landmark);
         newLandmarkID++;
         NewClaimedChunkStorage.getInstance().claimLandmarkChunk(position.getChunk(), landmarkID);
-        save();
+        markDirty(landmarkID);
+        saveChanges();
         return landmark;
     }
 
@@ -75,7 +79,7 @@ public class LandmarkStorage {
     public void load(){
 
         Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Landmarks.json");
+        File file = jsonFile.getFile();
         if (file.exists()){
             Reader reader;
             try {
@@ -93,38 +97,30 @@ public class LandmarkStorage {
                     ID = newID;
             }
             newLandmarkID = ID+1;
+            jsonFile.prime(landMarkMap);
         }
     }
 
-    public void save() {
-
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Landmarks.json");
-        file.getParentFile().mkdir();
+    /**
+     * Mark a landmark as modified. It will be written on the next save.
+     * @param landmarkID the ID of the landmark
+     */
+    public void markDirty(String landmarkID) {
+        jsonFile.markDirty(landmarkID);
+    }
 
-        try {
-            file.createNewFile();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        Writer writer;
-        try {
-            writer = new FileWriter(file, false);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        gson.toJson(landMarkMap, writer);
-        try {
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        try {
-            writer.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Save every landmark modified since the last save, even if it was not marked as modified.
+     */
+    public void save() {
+        jsonFile.save(landMarkMap, true);
+    }
 
+    /**
+     * Save landmarks marked as modified since the last save. Nothing is written if no landmark changed.
+     */
+    public void saveChanges() {
+        jsonFile.save(landMarkMap, false);
     }
 
     public Map<String, Landmark> getLandMarkMap() {
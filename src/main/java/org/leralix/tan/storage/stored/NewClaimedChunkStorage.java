@@ -2,27 +2,46 @@ package org.leralix.tan.storage.stored;
 
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.leralix.tan.dataclass.chunk.*;
 import org.leralix.tan.dataclass.territory.TerritoryData;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.TownsAndNations;
+import org.leralix.tan.storage.ClaimMapCache;
 import org.tan.api.getters.TanTerritoryManager;
 import org.leralix.tan.listeners.ChunkLoadManager;
+import org.leralix.tan.utils.ChunkUtil;
+import org.leralix.tan.utils.LongObjectMap;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class NewClaimedChunkStorage {
 
-    private final Map<String, ClaimedChunk2> claimedChunksMap = new HashMap<>();
+    /**
+     * Claimed chunks, indexed by world and then by packed chunk coordinates.
+     * @see ChunkUtil#getChunkKey(int, int)
+     */
+    private final Map<UUID, LongObjectMap<ClaimedChunk2>> claimedChunksMap = new HashMap<>();
+    /**
+     * Secondary index of claimed chunks, by owner ID. Kept in sync with {@link #claimedChunksMap}
+     * so counting or iterating the chunks of a territory does not scan every claim of the server.
+     */
+    private final Map<String, Set<ClaimedChunk2>> chunksByOwner = new HashMap<>();
+
+    /**
+     * Write-behind journal persisting claims and unclaims off the main thread.
+     */
+    private final ClaimedChunkJournal journal;
 
     private static NewClaimedChunkStorage instance;
 
     private NewClaimedChunkStorage() {
+        journal = new ClaimedChunkJournal(TownsAndNations.getPlugin().getDataFolder());
         loadStats();
     }
 
@@ -33,27 +52,76 @@ public class NewClaimedChunkStorage {
         return instance;
     }
 
-    private static String getChunkKey(Chunk chunk) {
-        return getChunkKey(chunk.getX(),chunk.getZ(),chunk.getWorld().getUID().toString());
+    private ClaimedChunk2 getClaim(Chunk chunk) {
+        return getClaim(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
     }
-    private static String getChunkKey(ClaimedChunk2 chunk) {
-        return getChunkKey(chunk.getX(),chunk.getZ(),chunk.getWorldUUID());
+
+    private ClaimedChunk2 getClaim(UUID worldUUID, int x, int z) {
+        LongObjectMap<ClaimedChunk2> worldClaims = claimedChunksMap.get(worldUUID);
+        if (worldClaims == null) {
+            return null;
+        }
+        return worldClaims.get(ChunkUtil.getChunkKey(x, z));
     }
-    private static String getChunkKey(int x, int z, String chunkWorldUID){
-        return x + "," + z + "," + chunkWorldUID;
+
+    private void putClaim(ClaimedChunk2 claimedChunk) {
+        ClaimedChunk2 previousClaim = claimedChunksMap.computeIfAbsent(UUID.fromString(claimedChunk.getWorldUUID()), k -> new LongObjectMap<>())
+                .put(ChunkUtil.getChunkKey(claimedChunk.getX(), claimedChunk.getZ()), claimedChunk);
+        if (previousClaim != null) {
+            removeFromOwnerIndex(previousClaim);
+        }
+        chunksByOwner.computeIfAbsent(claimedChunk.getOwnerID(), k -> new HashSet<>()).add(claimedChunk);
+        ClaimMapCache.getInstance().invalidate(claimedChunk.getWorldUUID(), claimedChunk.getX(), claimedChunk.getZ());
     }
 
+    private ClaimedChunk2 removeClaim(UUID worldUUID, int x, int z) {
+        LongObjectMap<ClaimedChunk2> worldClaims = claimedChunksMap.get(worldUUID);
+        if (worldClaims == null) {
+            return null;
+        }
+        ClaimedChunk2 removedClaim = worldClaims.remove(ChunkUtil.getChunkKey(x, z));
+        if (removedClaim != null) {
+            removeFromOwnerIndex(removedClaim);
+            ClaimMapCache.getInstance().invalidate(removedClaim.getWorldUUID(), x, z);
+        }
+        return removedClaim;
+    }
 
-    public Map<String, ClaimedChunk2> getClaimedChunksMap() {
-        return claimedChunksMap;
+    private void removeFromOwnerIndex(ClaimedChunk2 claimedChunk) {
+        Set<ClaimedChunk2> ownedChunks = chunksByOwner.get(claimedChunk.getOwnerID());
+        if (ownedChunks == null) {
+            return;
+        }
+        ownedChunks.remove(claimedChunk);
+        if (ownedChunks.isEmpty()) {
+            chunksByOwner.remove(claimedChunk.getOwnerID());
+        }
+    }
+
+    /**
+     * @return a snapshot of every claimed chunk of the server
+     */
+    public Collection<ClaimedChunk2> getAllClaimedChunks() {
+        List<ClaimedChunk2> res = new ArrayList<>();
+        for (LongObjectMap<ClaimedChunk2> worldClaims : claimedChunksMap.values()) {
+            worldClaims.forEachValue(res::add);
+        }
+        return res;
     }
 
     public boolean isChunkClaimed(Chunk chunk) {
-        return claimedChunksMap.containsKey(getChunkKey(chunk));
+        return getClaim(chunk) != null;
+    }
+
+    /**
+     * Check if a chunk is claimed using only its coordinates. The chunk does not need to be loaded.
+     */
+    public boolean isClaimed(World world, int x, int z) {
+        return getClaim(world.getUID(), x, z) != null;
     }
 
     public String getChunkOwnerID(Chunk chunk) {
-        ClaimedChunk2 claimedChunk = claimedChunksMap.get(getChunkKey(chunk));
+        ClaimedChunk2 claimedChunk = getClaim(chunk);
         return claimedChunk != null ? claimedChunk.getOwnerID() : null;
     }
 
@@ -63,19 +131,31 @@ public class NewClaimedChunkStorage {
         return TownDataStorage.getInstance().get(getChunkOwnerID(chunk));
     }
 
+    /**
+     * Get every chunk claimed by a territory.
+     * @param territoryData the territory
+     * @return a snapshot of the chunks, safe to iterate while unclaiming
+     */
     public Collection<ClaimedChunk2> getAllChunkFrom(TerritoryData territoryData){
-        List<ClaimedChunk2> chunks = new ArrayList<>();
-        for(ClaimedChunk2 chunk : claimedChunksMap.values()){
-            if(chunk.getOwnerID().equals(territoryData.getID())){
-                chunks.add(chunk);
-            }
+        return getAllChunkFrom(territoryData.getID());
+    }
+
+    public Collection<ClaimedChunk2> getAllChunkFrom(String ownerID){
+        Set<ClaimedChunk2> ownedChunks = chunksByOwner.get(ownerID);
+        if(ownedChunks == null){
+            return Collections.emptyList();
         }
-        return Collections.unmodifiableCollection(chunks);
+        return List.copyOf(ownedChunks);
+    }
+
+    public int getNumberOfChunkFrom(TerritoryData territoryData){
+        Set<ClaimedChunk2> ownedChunks = chunksByOwner.get(territoryData.getID());
+        return ownedChunks == null ? 0 : ownedChunks.size();
     }
 
     public String getChunkOwnerName(Chunk chunk) {
 
-        ClaimedChunk2 claimedChunk = claimedChunksMap.get(getChunkKey(chunk));
+        ClaimedChunk2 claimedChunk = getClaim(chunk);
 
         if(claimedChunk instanceof TownClaimedChunk){
             return TownDataStorage.getInstance().get(claimedChunk.getOwnerID()).getName();
@@ -88,7 +168,7 @@ public class NewClaimedChunkStorage {
 
     public boolean isOwner(Chunk chunk, String townID) {
 
-        ClaimedChunk2 cChunk = claimedChunksMap.get(getChunkKey(chunk));
+        ClaimedChunk2 cChunk = getClaim(chunk);
         if(cChunk instanceof TownClaimedChunk){
             return cChunk.getOwnerID().equals(townID);
         }
@@ -99,34 +179,41 @@ public class NewClaimedChunkStorage {
     }
 
     public void claimTownChunk(Chunk chunk, String ownerID) {
-        claimedChunksMap.put(getChunkKey(chunk), new TownClaimedChunk(chunk, ownerID));
-        save();
+        claim(new TownClaimedChunk(chunk, ownerID));
     }
     public void claimRegionChunk(Chunk chunk, String ownerID){
-        claimedChunksMap.put(getChunkKey(chunk), new RegionClaimedChunk(chunk, ownerID));
-        save();
+        claim(new RegionClaimedChunk(chunk, ownerID));
     }
     public void claimLandmarkChunk(Chunk chunk, String ownerID){
-        claimedChunksMap.put(getChunkKey(chunk), new LandmarkClaimedChunk(chunk, ownerID));
-        save();
+        claim(new LandmarkClaimedChunk(chunk, ownerID));
     }
 
-    public boolean isAdjacentChunkClaimedBySameTown(Chunk chunk, String townID) {
+    public void claimTownChunk(String worldUUID, int x, int z, String ownerID) {
+        claim(new TownClaimedChunk(x, z, worldUUID, ownerID));
+    }
+    public void claimRegionChunk(String worldUUID, int x, int z, String ownerID){
+        claim(new RegionClaimedChunk(x, z, worldUUID, ownerID));
+    }
 
-        List<String> adjacentChunkKeys = Arrays.asList(
-                getChunkKey(chunk.getX() + 1, chunk.getZ(), chunk.getWorld().getUID().toString()),
-                getChunkKey(chunk.getX() - 1, chunk.getZ(), chunk.getWorld().getUID().toString()),
-                getChunkKey(chunk.getX(), chunk.getZ() + 1, chunk.getWorld().getUID().toString()),
-                getChunkKey(chunk.getX(), chunk.getZ() - 1, chunk.getWorld().getUID().toString())
-        );
+    private void claim(ClaimedChunk2 claimedChunk) {
+        putClaim(claimedChunk);
+        journal.logClaim(claimedChunk);
+    }
 
-        for (String adjacentChunkKey : adjacentChunkKeys) {
-            ClaimedChunk2 adjacentClaimedChunk = claimedChunksMap.get(adjacentChunkKey);
-            if (adjacentClaimedChunk != null && adjacentClaimedChunk.getOwnerID().equals(townID)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean isAdjacentChunkClaimedBySameTown(Chunk chunk, String townID) {
+        UUID worldUUID = chunk.getWorld().getUID();
+        int x = chunk.getX();
+        int z = chunk.getZ();
+
+        return isClaimedBy(worldUUID, x + 1, z, townID) ||
+                isClaimedBy(worldUUID, x - 1, z, townID) ||
+                isClaimedBy(worldUUID, x, z + 1, townID) ||
+                isClaimedBy(worldUUID, x, z - 1, townID);
+    }
+
+    private boolean isClaimedBy(UUID worldUUID, int x, int z, String ownerID) {
+        ClaimedChunk2 claimedChunk = getClaim(worldUUID, x, z);
+        return claimedChunk != null && claimedChunk.getOwnerID().equals(ownerID);
     }
 
     public void unclaimChunk(ClaimedChunk2 claimedChunk) {
@@ -134,11 +221,11 @@ public class NewClaimedChunkStorage {
             return;
         }
         
-        // Get the chunk before removing from map
+        // Get the chunk before removing from map, only if it is loaded
         Chunk chunk = claimedChunk.getChunk();
         
         // Remove from the claimed chunks map
-        claimedChunksMap.remove(getChunkKey(claimedChunk));
+        ClaimedChunk2 removedClaim = removeClaim(UUID.fromString(claimedChunk.getWorldUUID()), claimedChunk.getX(), claimedChunk.getZ());
         
         // CRITICAL: Notify ChunkLoadManager that this chunk was unclaimed
         // This will schedule the chunk for unloading to prevent memory leaks
@@ -147,7 +234,9 @@ public class NewClaimedChunkStorage {
         }
         
         // Save the updated data
-        save();
+        if (removedClaim != null) {
+            journal.logUnclaim(removedClaim);
+        }
         
         // Log for debugging (can be removed in production)
         TownsAndNations.getPlugin().getLogger().info(
@@ -165,14 +254,16 @@ public class NewClaimedChunkStorage {
         }
         
         // Remove from the claimed chunks map
-        claimedChunksMap.remove(getChunkKey(chunk));
+        ClaimedChunk2 removedClaim = removeClaim(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
         
         // CRITICAL: Notify ChunkLoadManager that this chunk was unclaimed
         // This will schedule the chunk for unloading to prevent memory leaks
         ChunkLoadManager.getInstance().onChunkUnclaimed(chunk);
         
         // Save the updated data
-        save();
+        if (removedClaim != null) {
+            journal.logUnclaim(removedClaim);
+        }
         
         // Log for debugging (can be removed in production)
         TownsAndNations.getPlugin().getLogger().info(
@@ -193,7 +284,7 @@ public class NewClaimedChunkStorage {
         Collection<ClaimedChunk2> chunksToUnclaim = getAllChunkFrom(territoryData);
         List<Chunk> chunkObjects = new ArrayList<>();
         
-        // Collect all chunk objects
+        // Collect loaded chunk objects, unloaded chunks do not need to be unloaded
         for (ClaimedChunk2 claimedChunk : chunksToUnclaim) {
             Chunk chunk = claimedChunk.getChunk();
             if (chunk != null) {
@@ -218,81 +309,116 @@ public class NewClaimedChunkStorage {
     }
 
     public void unclaimAllChunkFromID(String id) {
-        Iterator<Map.Entry<String, ClaimedChunk2>> iterator = claimedChunksMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, ClaimedChunk2> entry = iterator.next();
-            ClaimedChunk2 chunk = entry.getValue();
-            if (chunk.getOwnerID().equals(id)) {
-                iterator.remove();
+        if (removeAllClaimsOf(id)) {
+            journal.logUnclaimAll(id);
+        }
+    }
+
+    private boolean removeAllClaimsOf(String id) {
+        Set<ClaimedChunk2> ownedChunks = chunksByOwner.remove(id);
+        if (ownedChunks == null) {
+            return false;
+        }
+        for (ClaimedChunk2 chunk : ownedChunks) {
+            LongObjectMap<ClaimedChunk2> worldClaims = claimedChunksMap.get(UUID.fromString(chunk.getWorldUUID()));
+            if (worldClaims != null) {
+                worldClaims.remove(ChunkUtil.getChunkKey(chunk.getX(), chunk.getZ()));
             }
+            ClaimMapCache.getInstance().invalidate(chunk.getWorldUUID(), chunk.getX(), chunk.getZ());
         }
+        return true;
     }
 
 
     public ClaimedChunk2 get(Chunk chunk) {
-        ClaimedChunk2 claimedChunk = claimedChunksMap.get(getChunkKey(chunk));
+        ClaimedChunk2 claimedChunk = getClaim(chunk);
         if (claimedChunk == null) {
             return new WildernessChunk(chunk);
         }
         return claimedChunk;
     }
 
+    /**
+     * Get the claim at the given chunk coordinates, without loading the chunk.
+     * @return the claimed chunk, or a {@link WildernessChunk} if the chunk is not claimed
+     */
+    public ClaimedChunk2 get(UUID worldUUID, int x, int z) {
+        ClaimedChunk2 claimedChunk = getClaim(worldUUID, x, z);
+        if (claimedChunk == null) {
+            return new WildernessChunk(x, z, worldUUID.toString());
+        }
+        return claimedChunk;
+    }
+
     private void loadStats() {
         Gson gson = new Gson();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Claimed Chunks.json");
+        File file = journal.getSnapshotFile();
         if (file.exists()) {
-            try (FileReader reader = new FileReader(file)) {
+            try (FileReader reader = new FileReader(file, StandardCharsets.UTF_8)) {
                 Type type = new TypeToken<Map<String, JsonObject>>() {}.getType();
                 Map<String, JsonObject> jsonData = gson.fromJson(reader, type);
 
-                for (Map.Entry<String, JsonObject> entry : jsonData.entrySet()) {
-                    JsonObject chunkData = entry.getValue();
-                    int x = chunkData.get("x").getAsInt();
-                    int z = chunkData.get("z").getAsInt();
-                    String worldUUID = chunkData.get("worldUUID").getAsString();
-                    String ownerID = chunkData.get("ownerID").getAsString();
-
-                    // Déterminer si c'est une ville ou une région en fonction de la première lettre de ownerID
-                    if (ownerID.startsWith("T")) {
-                        TownClaimedChunk townChunk = new TownClaimedChunk(x, z, worldUUID, ownerID);
-                        claimedChunksMap.put(entry.getKey(), townChunk);
-                    }
-                    else if (ownerID.startsWith("R")) {
-                        RegionClaimedChunk regionChunk = new RegionClaimedChunk(x, z, worldUUID, ownerID);
-                        claimedChunksMap.put(entry.getKey(), regionChunk);
-                    }
-                    else if (ownerID.startsWith("L")) {
-                        LandmarkClaimedChunk landmarkClaimedChunk = new LandmarkClaimedChunk(x, z, worldUUID, ownerID);
-                        claimedChunksMap.put(entry.getKey(), landmarkClaimedChunk);
-                    }
+                for (JsonObject chunkData : jsonData.values()) {
+                    loadClaim(chunkData);
                 }
             } catch (IOException e) {
                 TownsAndNations.getPlugin().getLogger().severe("Error while loading claimed chunks stats");
             }
         }
+        journal.replay(this::replayChange);
+    }
+
+    private void replayChange(JsonObject change) {
+        String action = change.get(ClaimedChunkJournal.ACTION).getAsString();
+        switch (action) {
+            case ClaimedChunkJournal.CLAIM -> loadClaim(change);
+            case ClaimedChunkJournal.UNCLAIM -> removeClaim(
+                    UUID.fromString(change.get("worldUUID").getAsString()),
+                    change.get("x").getAsInt(),
+                    change.get("z").getAsInt());
+            case ClaimedChunkJournal.UNCLAIM_ALL -> removeAllClaimsOf(change.get("ownerID").getAsString());
+            default -> TownsAndNations.getPlugin().getLogger().warning("[TaN] Unknown action in claimed chunks journal : " + action);
+        }
     }
 
+    private void loadClaim(JsonObject chunkData) {
+        int x = chunkData.get("x").getAsInt();
+        int z = chunkData.get("z").getAsInt();
+        String worldUUID = chunkData.get("worldUUID").getAsString();
+        String ownerID = chunkData.get("ownerID").getAsString();
 
-    public void save() {
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Claimed Chunks.json");
-        file.getParentFile().mkdirs();
-        try {
-            if (!file.exists()){
-                file.createNewFile();
-            }
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe("Error while creating claimed chunks file");
+        // Déterminer si c'est une ville ou une région en fonction de la première lettre de ownerID
+        if (ownerID.startsWith("T")) {
+            TownClaimedChunk townChunk = new TownClaimedChunk(x, z, worldUUID, ownerID);
+            putClaim(townChunk);
+        }
+        else if (ownerID.startsWith("R")) {
+            RegionClaimedChunk regionChunk = new RegionClaimedChunk(x, z, worldUUID, ownerID);
+            putClaim(regionChunk);
+        }
+        else if (ownerID.startsWith("L")) {
+            LandmarkClaimedChunk landmarkClaimedChunk = new LandmarkClaimedChunk(x, z, worldUUID, ownerID);
+            putClaim(landmarkClaimedChunk);
         }
-        try (FileWriter writer = new FileWriter(file, false);){
-            gson.toJson(claimedChunksMap, writer);
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe("Error while storing claimed chunks in file");
+    }
+
+    /**
+     * Compact the claim journal into a new snapshot of every claimed chunk.
+     * The file is written asynchronously, and nothing is written if no chunk changed since the last save.
+     */
+    public void save() {
+        if (!journal.needsCompaction() && journal.getSnapshotFile().exists()) {
+            return;
         }
+        journal.compact(getAllClaimedChunks());
     }
 
-    
-    
-    
+    /**
+     * Save every claimed chunk and wait for pending writes to be done. Used when the plugin is disabled.
+     */
+    public void close() {
+        save();
+        journal.close();
+    }
 
 }
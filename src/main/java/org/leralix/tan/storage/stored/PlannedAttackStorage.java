@@ -18,6 +18,19 @@ import java.util.Map;
 
 public class PlannedAttackStorage {
     private static Map<String, PlannedAttack> warDataMapWithWarKey = new HashMap<>();
+    private static IncrementalJsonFile jsonFile;
+
+    private static IncrementalJsonFile getJsonFile() {
+        if (jsonFile == null) {
+            jsonFile = new IncrementalJsonFile(
+                    new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Planned_wars.json"),
+                    new GsonBuilder()
+                            .registerTypeAdapter(WarGoal.class, new WargoalTypeAdapter())
+                            .setPrettyPrinting()
+                            .create());
+        }
+        return jsonFile;
+    }
 
 
     public static PlannedAttack newWar(CreateAttackData createAttackData){
@@ -26,7 +39,8 @@ public class PlannedAttackStorage {
         long deltaDateTime = createAttackData.getDeltaDateTime();
         PlannedAttack plannedAttack = new PlannedAttack(newID, createAttackData, deltaDateTime);
         add(plannedAttack);
-        save();
+        markDirty(newID);
+        saveChanges();
         return plannedAttack;
     }
 
@@ -36,6 +50,7 @@ public class PlannedAttackStorage {
 
     public static void remove(PlannedAttack plannedAttack) {
         warDataMapWithWarKey.remove(plannedAttack.getID());
+        markDirty(plannedAttack.getID());
     }
 
     private static void setupAllAttacks(){
@@ -66,7 +81,7 @@ public class PlannedAttackStorage {
                 .registerTypeAdapter(WarGoal.class, new WargoalTypeAdapter())
                 .setPrettyPrinting().
                 create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Planned_wars.json");
+        File file = getJsonFile().getFile();
         if (file.exists()){
             Reader reader;
             try {
@@ -79,42 +94,31 @@ public class PlannedAttackStorage {
             for(PlannedAttack plannedAttack : warDataMapWithWarKey.values()){
                 warDataMapWithWarKey.put(plannedAttack.getID(), plannedAttack);
             }
+            getJsonFile().prime(warDataMapWithWarKey);
         }
         setupAllAttacks();
     }
 
-    public static void save() {
+    /**
+     * Mark a planned attack as modified. It will be written on the next save.
+     * @param attackID the ID of the planned attack
+     */
+    public static void markDirty(String attackID) {
+        getJsonFile().markDirty(attackID);
+    }
 
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(WarGoal.class, new WargoalTypeAdapter())
-                .setPrettyPrinting()
-                .create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Planned_wars.json");
-        file.getParentFile().mkdir();
-
-        try {
-            file.createNewFile();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        Writer writer;
-        try {
-            writer = new FileWriter(file, false);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        gson.toJson(warDataMapWithWarKey, writer);
-        try {
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        try {
-            writer.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Save every planned attack modified since the last save, even if it was not marked as modified.
+     */
+    public static void save() {
+        getJsonFile().save(warDataMapWithWarKey, true);
+    }
 
+    /**
+     * Save planned attacks marked as modified since the last save. Nothing is written if no attack changed.
+     */
+    public static void saveChanges() {
+        getJsonFile().save(warDataMapWithWarKey, false);
     }
 
     public static void territoryDeleted(TerritoryData territoryData) {
@@ -28,6 +28,10 @@ public class PlayerDataStorage {
 
     private static ITanPlayer NO_PLAYER;
 
+    private final IncrementalJsonFile jsonFile = new IncrementalJsonFile(
+            new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Players.json"),
+            new GsonBuilder().setPrettyPrinting().create());
+
     private PlayerDataStorage() {
         loadStats();
     }
@@ -47,7 +51,8 @@ public class PlayerDataStorage {
     }
     ITanPlayer register(ITanPlayer p) {
         playerStorage.put(p.getID(), p);
-        saveStats();
+        markDirty(p.getID());
+        saveChanges();
         return p;
     }
 
@@ -87,7 +92,7 @@ public class PlayerDataStorage {
     public void loadStats(){
 
         Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Players.json");
+        File file = jsonFile.getFile();
         if (file.exists()){
             Reader reader;
             try {
@@ -98,43 +103,30 @@ public class PlayerDataStorage {
             }
             Type type = new TypeToken<HashMap<String, PlayerData>>() {}.getType();
             playerStorage = gson.fromJson(reader, type);
-
+            jsonFile.prime(playerStorage);
         }
 
     }
-    public void saveStats() {
-
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Players.json");
-        file.getParentFile().mkdir();
-
+    /**
+     * Mark a player as modified. It will be written on the next save.
+     * @param playerID the ID of the player
+     */
+    public void markDirty(String playerID) {
+        jsonFile.markDirty(playerID);
+    }
 
-        try {
-             file.createNewFile();
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
-            return;
-        }
-        Writer writer;
-        try {
-            writer = new FileWriter(file, false);
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
-            return;
-        }
-        gson.toJson(playerStorage, writer);
-        try {
-            writer.flush();
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
-            return;
-        }
-        try {
-            writer.close();
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
-        }
+    /**
+     * Save every player modified since the last save, even if it was not marked as modified.
+     */
+    public void saveStats() {
+        jsonFile.save(playerStorage, true);
+    }
 
+    /**
+     * Save players marked as modified since the last save. Nothing is written if no player changed.
+     */
+    public void saveChanges() {
+        jsonFile.save(playerStorage, false);
     }
 
-}
\ No newline at end of file
+}
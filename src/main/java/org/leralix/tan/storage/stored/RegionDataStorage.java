@@ -18,6 +18,7 @@ import org.leralix.tan.utils.FileUtil;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -27,6 +28,12 @@ public class RegionDataStorage {
 
     private int nextID = 1;
     private LinkedHashMap<String, RegionData> regionStorage = new LinkedHashMap<>();
+    private final TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+    private final IncrementalJsonFile jsonFile = new IncrementalJsonFile(
+            new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Regions.json"),
+            new GsonBuilder().setPrettyPrinting()
+                    .registerTypeAdapter(ICustomIcon.class, new IconAdapter())
+                    .create());
     private static RegionDataStorage instance;
 
     public static RegionDataStorage getInstance() {
@@ -47,6 +54,8 @@ public class RegionDataStorage {
 
         RegionData newRegion = new RegionData(regionID, name, newLeader);
         regionStorage.put(regionID, newRegion);
+        nameIndex.put(regionID, name);
+        markDirty(regionID);
         capital.setOverlord(newRegion);
 
         FileUtil.addLineToHistory(Lang.REGION_CREATED_NEWSLETTER.get(newLeader.getNameStored(), name));
@@ -89,20 +98,49 @@ public class RegionDataStorage {
 
     public void deleteRegion(RegionData region){
         regionStorage.remove(region.getID());
-        saveStats();
+        nameIndex.remove(region.getID());
+        markDirty(region.getID());
+        saveChanges();
     }
 
+    /**
+     * @return true if a region already has this name, ignoring case
+     */
     public boolean isNameUsed(String name){
-        for (RegionData region : regionStorage.values()){
-            if(region.getName().equalsIgnoreCase(name))
-                return true;
+        return nameIndex.contains(name);
+    }
+
+    /**
+     * @return the first region created with this name, ignoring case, or null if none
+     */
+    public RegionData getByName(String name){
+        String regionID = nameIndex.getFirstID(name);
+        return regionID == null ? null : get(regionID);
+    }
+
+    /**
+     * @return every region whose name starts with the prefix, ignoring case, sorted by name
+     */
+    public List<RegionData> getAllStartingWith(String prefix){
+        List<RegionData> res = new ArrayList<>();
+        for (String regionID : nameIndex.getIDsStartingWith(prefix)) {
+            res.add(get(regionID));
+        }
+        return res;
+    }
+
+    /**
+     * Index a region again under its current name, after it was renamed.
+     */
+    public void updateName(RegionData region){
+        if (regionStorage.containsKey(region.getID())) {
+            nameIndex.put(region.getID(), region.getName());
         }
-        return false;
     }
 
     public void loadStats() {
 
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Regions.json");
+        File file = jsonFile.getFile();
         if (!file.exists()){
             return;
         }
@@ -129,43 +167,34 @@ public class RegionDataStorage {
                 id = newID;
         }
         nextID = id+1;
-    }
-
-    public void saveStats() {
-
-        Gson gson = new GsonBuilder().setPrettyPrinting()
-                .registerTypeAdapter(ICustomIcon.class, new IconAdapter())
-                .create();
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Regions.json");
-        file.getParentFile().mkdirs();
-        try {
-            if (!file.exists()) {
-                file.createNewFile();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
 
-        Writer writer;
-        try {
-            writer = new FileWriter(file, false);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        nameIndex.clear();
+        for (RegionData region : regionStorage.values()) {
+            nameIndex.put(region.getID(), region.getName());
         }
-        gson.toJson(regionStorage, writer);
+        jsonFile.prime(regionStorage);
+    }
 
-        try {
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        try {
-            writer.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Mark a region as modified. It will be written on the next save.
+     * @param regionID the ID of the region
+     */
+    public void markDirty(String regionID) {
+        jsonFile.markDirty(regionID);
     }
 
+    /**
+     * Save every region modified since the last save, even if it was not marked as modified.
+     */
+    public void saveStats() {
+        jsonFile.save(regionStorage, true);
+    }
 
+    /**
+     * Save regions marked as modified since the last save. Nothing is written if no region changed.
+     */
+    public void saveChanges() {
+        jsonFile.save(regionStorage, false);
+    }
 
 }
@@ -0,0 +1,81 @@
+package org.leralix.tan.storage.stored;
+
+import java.util.*;
+
+/**
+ * Case-insensitive index of territory names.
+ * <p>
+ * Names are sorted, so every territory whose name starts with a prefix is found without scanning all of them.
+ * Several territories may share the same name, they are kept in the order they were indexed.
+ */
+public class TerritoryNameIndex {
+
+    /**
+     * IDs of territories, by lower case name.
+     */
+    private final TreeMap<String, List<String>> idsByName = new TreeMap<>();
+    /**
+     * Lower case name under which each territory is indexed, by ID.
+     */
+    private final Map<String, String> nameByID = new HashMap<>();
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Index a territory under its name, replacing its previous name if it was already indexed.
+     */
+    public void put(String id, String name) {
+        remove(id);
+        if (name == null) {
+            return;
+        }
+        String key = normalize(name);
+        idsByName.computeIfAbsent(key, k -> new ArrayList<>(1)).add(id);
+        nameByID.put(id, key);
+    }
+
+    public void remove(String id) {
+        String key = nameByID.remove(id);
+        if (key == null) {
+            return;
+        }
+        List<String> ids = idsByName.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByName.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByName.clear();
+        nameByID.clear();
+    }
+
+    public boolean contains(String name) {
+        return idsByName.containsKey(normalize(name));
+    }
+
+    /**
+     * @return the ID of the first territory indexed with this name, ignoring case, or null if none
+     */
+    public String getFirstID(String name) {
+        List<String> ids = idsByName.get(normalize(name));
+        return ids == null ? null : ids.get(0);
+    }
+
+    /**
+     * @return the IDs of every territory whose name starts with the prefix, ignoring case, sorted by name
+     */
+    public List<String> getIDsStartingWith(String prefix) {
+        String key = normalize(prefix);
+        List<String> res = new ArrayList<>();
+        for (List<String> ids : idsByName.subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+            res.addAll(ids);
+        }
+        return res;
+    }
+}
@@ -18,6 +18,7 @@ import org.leralix.tan.storage.typeadapter.IconAdapter;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -28,6 +29,12 @@ public class TownDataStorage {
     private static TownDataStorage instance;
     private LinkedHashMap<String, TownData> townDataMap = new LinkedHashMap<>();
     private int newTownId = 1;
+    private final TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+    private final IncrementalJsonFile jsonFile = new IncrementalJsonFile(
+            new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Towns.json"),
+            new GsonBuilder().setPrettyPrinting()
+                    .registerTypeAdapter(ICustomIcon.class, new IconAdapter())
+                    .create());
 
     protected TownDataStorage() {
         loadStats();
@@ -47,7 +54,9 @@ public class TownDataStorage {
 
 
         townDataMap.put(townId,newTown);
-        saveStats();
+        nameIndex.put(townId, townName);
+        markDirty(townId);
+        saveChanges();
         return newTown;
     }
 
@@ -63,14 +72,18 @@ public class TownDataStorage {
         TownData newTown = new TownData(townId, townName);
 
         townDataMap.put(townId,newTown);
-        saveStats();
+        nameIndex.put(townId, townName);
+        markDirty(townId);
+        saveChanges();
         return newTown;
     }
 
 
     public void deleteTown(TownData townData) {
         townDataMap.remove(townData.getID());
-        saveStats();
+        nameIndex.remove(townData.getID());
+        markDirty(townData.getID());
+        saveChanges();
     }
 
     public Map<String, TownData> getTownMap() {
@@ -96,7 +109,7 @@ public class TownDataStorage {
     }
 
     private void loadStats() {
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Towns.json");
+        File file = jsonFile.getFile();
         if (!file.exists())
             return;
 
@@ -127,46 +140,72 @@ public class TownDataStorage {
                 id = newID;
         }
         newTownId = id + 1;
+
+        nameIndex.clear();
+        for (TownData townData : townDataMap.values()) {
+            nameIndex.put(townData.getID(), townData.getName());
+        }
+        jsonFile.prime(townDataMap);
     }
 
 
-    public void saveStats() {
+    /**
+     * Mark a town as modified. It will be written on the next save.
+     * @param townID the ID of the town
+     */
+    public void markDirty(String townID) {
+        jsonFile.markDirty(townID);
+    }
 
-        Gson gson = new GsonBuilder().setPrettyPrinting()
-                .registerTypeAdapter(ICustomIcon.class, new IconAdapter())
-                .create();
+    /**
+     * Save every town modified since the last save, even if it was not marked as modified.
+     */
+    public void saveStats() {
+        jsonFile.save(townDataMap, true);
+    }
 
+    /**
+     * Save towns marked as modified since the last save. Nothing is written if no town changed.
+     */
+    public void saveChanges() {
+        jsonFile.save(townDataMap, false);
+    }
 
-        File file = new File(TownsAndNations.getPlugin().getDataFolder().getAbsolutePath() + "/TAN - Towns.json");
 
-        if(file.getParentFile().mkdirs())
 
+    /**
+     * @return true if a town already has this name, ignoring case
+     */
+    public boolean isNameUsed(String townName){
+        return nameIndex.contains(townName);
+    }
 
-        try {
-            if (!file.exists()){
-                file.createNewFile();
-            }
+    /**
+     * @return the first town created with this name, ignoring case, or null if none
+     */
+    public TownData getByName(String townName){
+        String townID = nameIndex.getFirstID(townName);
+        return townID == null ? null : get(townID);
+    }
 
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
-            return;
-        }
-        try (Writer writer = new FileWriter(file, false)) {
-            gson.toJson(townDataMap, writer);
-        } catch (IOException e) {
-            TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
+    /**
+     * @return every town whose name starts with the prefix, ignoring case, sorted by name
+     */
+    public List<TownData> getAllStartingWith(String prefix){
+        List<TownData> res = new ArrayList<>();
+        for (String townID : nameIndex.getIDsStartingWith(prefix)) {
+            res.add(get(townID));
         }
-
+        return res;
     }
 
-
-
-    public boolean isNameUsed(String townName){
-        for (TownData town : townDataMap.values()){
-            if(townName.equals(town.getName()))
-                return true;
+    /**
+     * Index a town again under its current name, after it was renamed.
+     */
+    public void updateName(TownData townData){
+        if (townDataMap.containsKey(townData.getID())) {
+            nameIndex.put(townData.getID(), townData.getName());
         }
-        return false;
     }
 
     public Collection<TownData> getAll(){
@@ -4,8 +4,21 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.leralix.tan.TownsAndNations;
 import org.leralix.tan.storage.stored.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinates the periodic save of every stored file.
+ * <p>
+ * Each minute, storages serialize the entities marked as modified on the main thread and hand the snapshot
+ * to a single writer thread, which formats it and writes it to disk. Storages with no modification do nothing.
+ * Comparing every entity to its last saved state is too slow for the main thread, so it is only done on shutdown.
+ */
 public class SaveStats {
 
+    private static ExecutorService writerThread;
+
     private SaveStats() {
         throw new IllegalStateException("Utility class");
     }
@@ -14,14 +27,62 @@ public class SaveStats {
         new BukkitRunnable() {
             @Override
             public void run() {
-                RegionDataStorage.getInstance().saveStats();
-                TownDataStorage.getInstance().saveStats();
-                PlayerDataStorage.getInstance().saveStats();
-                NewClaimedChunkStorage.getInstance().save();
-                LandmarkStorage.getInstance().save();
-                PlannedAttackStorage.save();
+                saveAll(false);
             }
-        }.runTaskTimer(TownsAndNations.getPlugin(), 0L, 1200L);
+        }.runTaskTimer(TownsAndNations.getPlugin(), 1200L, 1200L);
+    }
+
+    /**
+     * Save every storage. Must be called on the main thread.
+     * @param fullSave if true, every entity is checked for modifications instead of only the ones marked as modified
+     */
+    public static void saveAll(boolean fullSave) {
+        if (fullSave) {
+            RegionDataStorage.getInstance().saveStats();
+            TownDataStorage.getInstance().saveStats();
+            PlayerDataStorage.getInstance().saveStats();
+            LandmarkStorage.getInstance().save();
+            PlannedAttackStorage.save();
+        } else {
+            RegionDataStorage.getInstance().saveChanges();
+            TownDataStorage.getInstance().saveChanges();
+            PlayerDataStorage.getInstance().saveChanges();
+            LandmarkStorage.getInstance().saveChanges();
+            PlannedAttackStorage.saveChanges();
+        }
+        NewClaimedChunkStorage.getInstance().save();
     }
 
+    /**
+     * Queue a file write on the writer thread. Writes are done in the order they were submitted.
+     * @param write the write to execute
+     */
+    public static synchronized void submit(Runnable write) {
+        if (writerThread == null) {
+            writerThread = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "TaN - Save writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        writerThread.execute(write);
+    }
+
+    /**
+     * Wait for every queued write to be done. Used when the plugin is disabled.
+     */
+    public static synchronized void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        writerThread.shutdown();
+        try {
+            if (!writerThread.awaitTermination(30, TimeUnit.SECONDS)) {
+                TownsAndNations.getPlugin().getLogger().severe("[TaN] Some data could not be saved before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
 }
@@ -0,0 +1,26 @@
+package org.leralix.tan.utils;
+
+public class ChunkUtil {
+
+    private ChunkUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Pack chunk coordinates in a single long. The x coordinate takes the 32 high bits and the z coordinate the 32 low bits.
+     * @param x the x coordinate of the chunk
+     * @param z the z coordinate of the chunk
+     * @return the packed key of the chunk
+     */
+    public static long getChunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static int getX(long chunkKey) {
+        return (int) (chunkKey >> 32);
+    }
+
+    public static int getZ(long chunkKey) {
+        return (int) chunkKey;
+    }
+}
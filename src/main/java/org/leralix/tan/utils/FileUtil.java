@@ -8,7 +8,17 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.util.function.Consumer;
 
 /**
  * This static class manage the archive txt for admins.
@@ -46,4 +56,33 @@ public class FileUtil {
             TownsAndNations.getPlugin().getLogger().severe(ERROR_MESSAGE);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Write a file by first writing a temporary file next to it, then renaming it over the target.
+     * If the server crashes while writing, the previous version of the file is left untouched.
+     * The temporary file is synced to disk before the rename, so the rename can never expose a partially written file.
+     * @param file          the file to write
+     * @param writeContent  the action writing the content of the file
+     * @throws IOException if the file could not be written
+     */
+    public static void writeAtomically(File file, Consumer<Writer> writeContent) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create folder " + parent);
+        }
+        Path target = file.toPath();
+        Path temporaryFile = target.resolveSibling(file.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            writeContent.accept(writer);
+            writer.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
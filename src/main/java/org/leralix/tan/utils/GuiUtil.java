@@ -10,6 +10,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.gui.GuiItemSource;
 import org.leralix.tan.dataclass.territory.TownData;
 import org.leralix.tan.lang.DynamicLang;
 import org.leralix.tan.lang.Lang;
@@ -93,11 +94,15 @@ public class GuiUtil {
                                       Consumer<Player> nextPageAction, Consumer<Player> previousPageAction,
                                       Material decorativeMaterial) {
 
+        createIterator(gui, guItems, page, player, backArrowAction, nextPageAction, previousPageAction, createDecorativePane(decorativeMaterial));
+    }
+
+    private static ItemStack createDecorativePane(Material decorativeMaterial) {
         ItemStack decorativeGlassPane = new ItemStack(decorativeMaterial);
         ItemMeta itemMeta = decorativeGlassPane.getItemMeta();
         itemMeta.setDisplayName("");
         decorativeGlassPane.setItemMeta(itemMeta);
-        createIterator(gui, guItems, page, player, backArrowAction, nextPageAction, previousPageAction, decorativeGlassPane);
+        return decorativeGlassPane;
     }
 
     public static void createIterator(Gui gui, List<GuiItem> guItems, int page,
@@ -120,14 +125,63 @@ public class GuiUtil {
             endIndex = startIndex + pageSize;
         }
 
+        List<GuiItem> pageItems = startIndex < endIndex ? guItems.subList(startIndex, endIndex) : List.of();
+        createIteratorPage(gui, pageItems, page, lastPage, player, backArrowAction, nextPageAction, previousPageAction, decorativeGlassPane);
+    }
+
+    /**
+     * Fill the gui with the current page of an item source, and add the navigation bar.
+     * Only the items of the current page are built.
+     */
+    public static void createIterator(Gui gui, GuiItemSource<?> itemSource, int page,
+                                      Player player, Consumer<Player> backArrowAction,
+                                      Consumer<Player> nextPageAction, Consumer<Player> previousPageAction,
+                                      Material decorativeMaterial) {
+
+        int pageSize = (gui.getRows() - 1) * 9;
+        int startIndex = page * pageSize;
+        int endIndex = Math.min(startIndex + pageSize, itemSource.size());
+        boolean lastPage = endIndex >= itemSource.size();
+
+        List<GuiItem> pageItems = new ArrayList<>(pageSize);
+        for (int i = startIndex; i < endIndex; i++) {
+            GuiItem guiItem = itemSource.get(i);
+            if (guiItem != null) {
+                pageItems.add(guiItem);
+            }
+        }
+        createIteratorPage(gui, pageItems, page, lastPage, player, backArrowAction, nextPageAction, previousPageAction,
+                createDecorativePane(decorativeMaterial));
+    }
+
+    public static void createIteratorPage(Gui gui, List<GuiItem> pageItems, int page, boolean lastPage,
+                                          Player player, Consumer<Player> backArrowAction,
+                                          Consumer<Player> nextPageAction, Consumer<Player> previousPageAction) {
+
+        createIteratorPage(gui, pageItems, page, lastPage, player, backArrowAction, nextPageAction, previousPageAction,
+                createDecorativePane(Material.GRAY_STAINED_GLASS_PANE));
+    }
+
+    /**
+     * Fill the gui with an already paginated list of items, and add the navigation bar.
+     * Used when items are loaded page by page instead of all at once.
+     * @param pageItems items of the current page only
+     * @param lastPage  true if there is no next page
+     */
+    public static void createIteratorPage(Gui gui, List<GuiItem> pageItems, int page, boolean lastPage,
+                                          Player player, Consumer<Player> backArrowAction,
+                                          Consumer<Player> nextPageAction, Consumer<Player> previousPageAction,
+                                          ItemStack decorativeGlassPane) {
+
+        int pageSize = (gui.getRows() - 1) * 9;
         for (int i = 0; i < pageSize; i++) {
             gui.removeItem(i);
         }
 
         int slot = 0;
 
-        for (int i = startIndex; i < endIndex; i++) {
-            gui.setItem(slot, guItems.get(i));
+        for (GuiItem guiItem : pageItems) {
+            gui.setItem(slot, guiItem);
             slot++;
         }
         GuiItem panel = ItemBuilder.from(decorativeGlassPane).asGuiItem(event -> event.setCancelled(true));
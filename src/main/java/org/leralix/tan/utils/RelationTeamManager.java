@@ -0,0 +1,206 @@
+package org.leralix.tan.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.bukkit.scoreboard.Team;
+import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.dataclass.territory.TerritoryData;
+import org.leralix.tan.dataclass.territory.TownData;
+import org.leralix.tan.enums.TownRelation;
+import org.leralix.tan.storage.stored.PlayerDataStorage;
+import org.leralix.tan.storage.stored.TownDataStorage;
+
+import java.util.*;
+
+/**
+ * Keeps the scoreboard teams colouring players by relation up to date.
+ * <p>
+ * Each online player has their own scoreboard, where every other player with a town is in the team of
+ * the relation between both towns. Online players are indexed by town, so relations are resolved once per pair
+ * of towns instead of once per pair of players. Only the teams affected by a change are updated, and an entry
+ * is only moved if its team changed.
+ * <p>
+ * Must only be used on the main thread.
+ */
+public class RelationTeamManager {
+
+    private final Map<UUID, Scoreboard> scoreboards = new HashMap<>();
+    /**
+     * Town of each online player, as of the last update. Null if the player has no town.
+     */
+    private final Map<UUID, String> townOfPlayer = new HashMap<>();
+    private final Map<String, Set<Player>> onlinePlayersByTown = new HashMap<>();
+
+    private static RelationTeamManager instance;
+
+    private RelationTeamManager() {
+    }
+
+    public static synchronized RelationTeamManager getInstance() {
+        if (instance == null) {
+            instance = new RelationTeamManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Give a new scoreboard to a player and update the teams between them and every other online player.
+     * @param player the player who joined
+     */
+    public void addPlayer(Player player) {
+        ScoreboardManager scoreboardManager = Bukkit.getScoreboardManager();
+        if (scoreboardManager == null)
+            return;
+
+        removeFromTownIndex(player);
+
+        Scoreboard board = scoreboardManager.getNewScoreboard();
+        for (TownRelation relation : TownRelation.values()) {
+            Team team = board.registerNewTeam(getTeamName(relation));
+            team.setColor(relation.getColor());
+            team.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.ALWAYS);
+        }
+        player.setScoreboard(board);
+        scoreboards.put(player.getUniqueId(), board);
+
+        String townID = getTownID(player);
+        addToTownIndex(player, townID);
+        refreshPlayer(player, townID);
+    }
+
+    /**
+     * Forget a player who left, and remove them from the scoreboards of other players.
+     * @param player the player who left
+     */
+    public void removePlayer(Player player) {
+        if (scoreboards.remove(player.getUniqueId()) == null)
+            return;
+        String townID = removeFromTownIndex(player);
+        if (townID == null)
+            return; // A player without a town is not in any team
+        for (Scoreboard board : scoreboards.values()) {
+            setTeam(board, player.getName(), null);
+        }
+    }
+
+    /**
+     * Update the teams of a player who joined or left a town.
+     * @param tanPlayer the player whose town changed
+     */
+    public void updatePlayerTown(ITanPlayer tanPlayer) {
+        Player player = tanPlayer.getPlayer();
+        if (player == null)
+            return;
+        if (!scoreboards.containsKey(player.getUniqueId())) {
+            addPlayer(player);
+            return;
+        }
+        removeFromTownIndex(player);
+        String townID = tanPlayer.hasTown() ? tanPlayer.getTownId() : null;
+        addToTownIndex(player, townID);
+        refreshPlayer(player, townID);
+    }
+
+    /**
+     * Update the teams of the online members of two territories whose relation changed.
+     * Only relations between towns are displayed, other territories are ignored.
+     */
+    public void updateRelation(TerritoryData territory, TerritoryData otherTerritory) {
+        if (!(territory instanceof TownData) || !(otherTerritory instanceof TownData))
+            return;
+        Set<Player> members = onlinePlayersByTown.getOrDefault(territory.getID(), Collections.emptySet());
+        Set<Player> otherMembers = onlinePlayersByTown.getOrDefault(otherTerritory.getID(), Collections.emptySet());
+        if (members.isEmpty() || otherMembers.isEmpty())
+            return;
+
+        TownRelation relation = territory.getRelationWith(otherTerritory);
+        TownRelation otherRelation = otherTerritory.getRelationWith(territory);
+        for (Player member : members) {
+            Scoreboard board = scoreboards.get(member.getUniqueId());
+            for (Player otherMember : otherMembers) {
+                setTeam(board, otherMember.getName(), relation);
+                setTeam(scoreboards.get(otherMember.getUniqueId()), member.getName(), otherRelation);
+            }
+        }
+    }
+
+    /**
+     * Update the teams between a player and every other online player with a town, in both directions.
+     */
+    private void refreshPlayer(Player player, String townID) {
+        Scoreboard board = scoreboards.get(player.getUniqueId());
+        for (Map.Entry<String, Set<Player>> entry : onlinePlayersByTown.entrySet()) {
+            String otherTownID = entry.getKey();
+            TownRelation relation = getRelation(townID, otherTownID);
+            TownRelation otherRelation = getRelation(otherTownID, townID);
+            for (Player otherPlayer : entry.getValue()) {
+                setTeam(board, otherPlayer.getName(), relation);
+                if (!otherPlayer.equals(player)) {
+                    setTeam(scoreboards.get(otherPlayer.getUniqueId()), player.getName(), otherRelation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move an entry to the team of a relation, doing nothing if it is already in it.
+     * @param relation the relation, or null to remove the entry from its team
+     */
+    private static void setTeam(Scoreboard board, String entry, TownRelation relation) {
+        if (board == null)
+            return;
+        Team currentTeam = board.getEntryTeam(entry);
+        if (relation == null) {
+            if (currentTeam != null)
+                currentTeam.removeEntry(entry);
+            return;
+        }
+        String teamName = getTeamName(relation);
+        if (currentTeam != null && currentTeam.getName().equals(teamName))
+            return;
+        Team team = board.getTeam(teamName);
+        if (team != null)
+            team.addEntry(entry);
+    }
+
+    private static TownRelation getRelation(String townID, String otherTownID) {
+        if (townID == null || otherTownID == null)
+            return null;
+        TownData town = TownDataStorage.getInstance().get(townID);
+        if (town == null)
+            return null;
+        return town.getRelationWith(otherTownID);
+    }
+
+    private static String getTeamName(TownRelation relation) {
+        return relation.getName().toLowerCase();
+    }
+
+    private static String getTownID(Player player) {
+        ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(player);
+        return tanPlayer.hasTown() ? tanPlayer.getTownId() : null;
+    }
+
+    private void addToTownIndex(Player player, String townID) {
+        townOfPlayer.put(player.getUniqueId(), townID);
+        if (townID != null) {
+            onlinePlayersByTown.computeIfAbsent(townID, k -> new HashSet<>()).add(player);
+        }
+    }
+
+    private String removeFromTownIndex(Player player) {
+        String townID = townOfPlayer.remove(player.getUniqueId());
+        if (townID == null)
+            return null;
+        Set<Player> members = onlinePlayersByTown.get(townID);
+        if (members != null) {
+            members.remove(player);
+            if (members.isEmpty()) {
+                onlinePlayersByTown.remove(townID);
+            }
+        }
+        return townID;
+    }
+}
@@ -2,13 +2,9 @@ package org.leralix.tan.utils;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.Scoreboard;
-import org.bukkit.scoreboard.ScoreboardManager;
-import org.bukkit.scoreboard.Team;
 import org.leralix.tan.TownsAndNations;
 import org.leralix.tan.dataclass.ITanPlayer;
-import org.leralix.tan.enums.TownRelation;
-import org.leralix.tan.storage.stored.PlayerDataStorage;
+import org.leralix.tan.dataclass.territory.TerritoryData;
 
 /**
  * Utility class for handling teams for scoreboard color coding
@@ -19,82 +15,46 @@ public class TeamUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    /**
-     * Update the color of all the scoreboards
-     */
-    public static void updateAllScoreboardColor(){
-        if(TownsAndNations.getPlugin().colorCodeIsNotEnabled())
-            return;
-        for(Player player : Bukkit.getOnlinePlayers())
-            setIndividualScoreBoard(player);
-    }
-
     /**
      * Set the color of the scoreboard of a player
      * @param player    The player to set the scoreboard color of
      */
 
     public static void setIndividualScoreBoard(Player player) {
-        Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> setIndividualScoreBoardSync(player));
+        Bukkit.getScheduler().runTask(TownsAndNations.getPlugin(), () -> {
+            if(TownsAndNations.getPlugin().colorCodeIsNotEnabled())
+                return;
+            RelationTeamManager.getInstance().addPlayer(player);
+        });
     }
 
-    private static void setIndividualScoreBoardSync(Player player) {
+    /**
+     * Update the scoreboard colors of a player who joined or left a town
+     * @param tanPlayer    The player whose town changed
+     */
+    public static void updatePlayerTown(ITanPlayer tanPlayer) {
         if(TownsAndNations.getPlugin().colorCodeIsNotEnabled())
             return;
-
-        ScoreboardManager scoreboardManager = Bukkit.getScoreboardManager();
-        if(scoreboardManager == null)
-            return;
-
-        Scoreboard board = scoreboardManager.getNewScoreboard();
-
-        for (TownRelation relation : TownRelation.values()) {
-            Team team = board.getTeam(relation.getName().toLowerCase());
-
-            if (team == null) {
-                team = board.registerNewTeam(relation.getName().toLowerCase());
-            }
-
-            team.setColor(relation.getColor());
-            team.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.ALWAYS);
-        }
-        player.setScoreboard(board);
-
-        for (Player otherPlayer : Bukkit.getOnlinePlayers()) {
-
-            if(PlayerDataStorage.getInstance().get(otherPlayer).hasTown()){
-                addPlayerToCorrectTeam(otherPlayer, player);
-                if(!otherPlayer.getUniqueId().equals(player.getUniqueId())) //If player is not himself, no need to do it twice
-                    addPlayerToCorrectTeam(player, otherPlayer);
-            }
-        }
+        RelationTeamManager.getInstance().updatePlayerTown(tanPlayer);
     }
 
     /**
-     * Add a player to the correct team
-     * @param player        The player's scoreboard
-     * @param playerToAdd         The player to add to the team scoreboard
+     * Update the scoreboard colors of the members of two territories whose relation changed
      */
-    public static void addPlayerToCorrectTeam(Player player, Player playerToAdd) {
-
-        Scoreboard scoreboard = player.getScoreboard();
-        if(!PlayerDataStorage.getInstance().get(playerToAdd).hasTown() || !PlayerDataStorage.getInstance().get(player).hasTown())
-            return;
-
-        ITanPlayer tanPlayer = PlayerDataStorage.getInstance().get(player);
-        TownRelation relation = tanPlayer.getRelationWithPlayer(playerToAdd);
-        if(relation == null)
+    public static void updateRelation(TerritoryData territoryData, TerritoryData otherTerritoryData) {
+        if(TownsAndNations.getPlugin().colorCodeIsNotEnabled())
             return;
+        RelationTeamManager.getInstance().updateRelation(territoryData, otherTerritoryData);
+    }
 
-        Team playerTeam = scoreboard.getTeam(relation.getName().toLowerCase());
-        if(playerTeam == null){ //Player did not have a town when he logged in. No team was created for him.
-            TeamUtils.setIndividualScoreBoard(player);
-            playerTeam = scoreboard.getTeam(relation.getName().toLowerCase());
-        }
-        if(playerTeam == null)
+    /**
+     * Remove a player who left the server from the scoreboards
+     * @param player    The player who left
+     */
+    public static void removePlayer(Player player) {
+        if(TownsAndNations.getPlugin().colorCodeIsNotEnabled())
             return;
-        playerTeam.addEntry(playerToAdd.getName());
-
+        RelationTeamManager.getInstance().removePlayer(player);
     }
 
 }
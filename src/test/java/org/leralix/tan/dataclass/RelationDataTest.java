@@ -0,0 +1,49 @@
+package org.leralix.tan.dataclass;
+
+import org.junit.jupiter.api.Test;
+import org.leralix.tan.enums.TownRelation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelationDataTest {
+
+    @Test
+    void setRelation(){
+        RelationData relationData = new RelationData();
+
+        assertEquals(TownRelation.NEUTRAL, relationData.getRelationWith("T1"));
+
+        relationData.setRelation(TownRelation.ALLIANCE, "T1");
+        assertEquals(TownRelation.ALLIANCE, relationData.getRelationWith("T1"));
+        assertTrue(relationData.getTerritoriesIDWithRelation(TownRelation.ALLIANCE).contains("T1"));
+
+        relationData.setRelation(TownRelation.WAR, "T1");
+        assertEquals(TownRelation.WAR, relationData.getRelationWith("T1"));
+        assertFalse(relationData.getTerritoriesIDWithRelation(TownRelation.ALLIANCE).contains("T1"));
+        assertTrue(relationData.getTerritoriesIDWithRelation(TownRelation.WAR).contains("T1"));
+    }
+
+    @Test
+    void removeAllRelationWith(){
+        RelationData relationData = new RelationData();
+        relationData.setRelation(TownRelation.EMBARGO, "T1");
+        relationData.setRelation(TownRelation.EMBARGO, "T2");
+
+        relationData.removeAllRelationWith("T1");
+
+        assertEquals(TownRelation.NEUTRAL, relationData.getRelationWith("T1"));
+        assertEquals(TownRelation.EMBARGO, relationData.getRelationWith("T2"));
+        assertFalse(relationData.getTerritoriesIDWithRelation(TownRelation.EMBARGO).contains("T1"));
+    }
+
+    @Test
+    void setNeutralRelation(){
+        RelationData relationData = new RelationData();
+        relationData.setRelation(TownRelation.NON_AGGRESSION, "R1");
+
+        relationData.setRelation(TownRelation.NEUTRAL, "R1");
+
+        assertEquals(TownRelation.NEUTRAL, relationData.getRelationWith("R1"));
+        assertTrue(relationData.getTerritoriesIDWithRelation(TownRelation.NON_AGGRESSION).isEmpty());
+    }
+}
@@ -1,13 +1,18 @@
 package org.leralix.tan.dataclass.territory;
 
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.leralix.lib.position.Vector3D;
 import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.dataclass.PropertyData;
 import org.leralix.tan.dataclass.RankData;
 import org.leralix.tan.factory.AbstractionFactory;
 import org.leralix.tan.storage.stored.TownDataStorage;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TownDataTest {
@@ -31,6 +36,41 @@ class TownDataTest {
         assertEquals(tanPlayer.getTownRankID(), townData.getDefaultRankID());
     }
 
+    @Test
+    void getPropertyByLocation(){
+        ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
+        TownData townData = TownDataStorage.getInstance().newTown("propertyTown", tanPlayer);
+        World world = AbstractionFactory.createWorld("propertyWorld", UUID.randomUUID());
+        String worldID = world.getUID().toString();
+
+        PropertyData firstProperty = townData.registerNewProperty(new Vector3D(10, 60, 10, worldID), new Vector3D(20, 70, 20, worldID), tanPlayer);
+        PropertyData secondProperty = townData.registerNewProperty(new Vector3D(-5, 60, -5, worldID), new Vector3D(-1, 70, -1, worldID), tanPlayer);
+
+        assertEquals(firstProperty, townData.getProperty(AbstractionFactory.createLocation(18, 65, 12, world)));
+        assertEquals(secondProperty, townData.getProperty(AbstractionFactory.createLocation(-3, 65, -3, world)));
+        assertNull(townData.getProperty(AbstractionFactory.createLocation(5, 65, 5, world)));
+        assertEquals(1, townData.getPropertiesInChunk(1, 1).size());
+
+        townData.removeProperty(firstProperty);
+        assertNull(townData.getProperty(AbstractionFactory.createLocation(18, 65, 12, world)));
+        assertTrue(townData.getPropertiesInChunk(1, 1).isEmpty());
+    }
+
+    @Test
+    void removeOnlyProperty(){
+        ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
+        TownData townData = TownDataStorage.getInstance().newTown("singlePropertyTown", tanPlayer);
+        World world = AbstractionFactory.createWorld("singlePropertyWorld", UUID.randomUUID());
+        String worldID = world.getUID().toString();
+
+        PropertyData property = townData.registerNewProperty(new Vector3D(10, 60, 10, worldID), new Vector3D(20, 70, 20, worldID), tanPlayer);
+        assertEquals(property, townData.getProperty(AbstractionFactory.createLocation(18, 65, 12, world)));
+
+        townData.removeProperty(property);
+        assertNull(townData.getProperty(AbstractionFactory.createLocation(18, 65, 12, world)));
+        assertTrue(townData.getPropertiesInChunk(1, 1).isEmpty());
+    }
+
     @Test
     void addRank(){
         ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
@@ -0,0 +1,76 @@
+package org.leralix.tan.economy;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.leralix.tan.dataclass.ITanPlayer;
+import org.leralix.tan.factory.AbstractionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceLedgerTest {
+
+    @BeforeAll
+    static void setUp() {
+        AbstractionFactory.initializeConfigs();
+    }
+
+    @Test
+    void withdrawIfEnough() {
+        ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
+        BalanceLedger.setBalance(tanPlayer, 100);
+
+        assertTrue(BalanceLedger.withdrawIfEnough(tanPlayer, 100));
+        assertFalse(BalanceLedger.withdrawIfEnough(tanPlayer, 1));
+        assertEquals(0, BalanceLedger.getBalance(tanPlayer));
+    }
+
+    @Test
+    void concurrentDeposits() throws InterruptedException {
+        ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
+        BalanceLedger.setBalance(tanPlayer, 0);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    BalanceLedger.deposit(tanPlayer, 1);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8000, BalanceLedger.getBalance(tanPlayer));
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws InterruptedException {
+        ITanPlayer tanPlayer = AbstractionFactory.getRandomITanPlayer();
+        BalanceLedger.setBalance(tanPlayer, 500);
+        AtomicInteger successfulWithdrawals = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (BalanceLedger.withdrawIfEnough(tanPlayer, 1)) {
+                        successfulWithdrawals.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(500, successfulWithdrawals.get());
+        assertEquals(0, BalanceLedger.getBalance(tanPlayer));
+    }
+}
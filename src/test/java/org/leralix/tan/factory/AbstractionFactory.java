@@ -66,6 +66,7 @@ public class AbstractionFactory {
         when(plugin.getDataFolder()).thenReturn(new File(classLoader.getResource("created").getFile()));
         when(plugin.getDatabaseHandler()).thenReturn(Mockito.mock(DatabaseHandler.class));
         when(plugin.getDataFolder()).thenReturn(new File(classLoader.getResource("created").getFile()));
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("TownsAndNations"));
 
         SQLiteHandler sqliteHandler = new SQLiteHandler("src/test/resources/database/main.db");
         try {
@@ -0,0 +1,40 @@
+package org.leralix.tan.storage.blacklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldBlackListTest {
+
+    @Test
+    void zoneAcrossCells() {
+        WorldBlackList worldBlackList = new WorldBlackList();
+        worldBlackList.addZone(new BlackListZone("world", List.of(-70, 60, -60, 70)));
+
+        assertTrue(worldBlackList.isBlacklisted(-70, 60));
+        assertTrue(worldBlackList.isBlacklisted(-64, 64));
+        assertTrue(worldBlackList.isBlacklisted(-60, 70));
+        assertFalse(worldBlackList.isBlacklisted(-71, 60));
+        assertFalse(worldBlackList.isBlacklisted(-60, 71));
+        assertFalse(worldBlackList.isBlacklisted(0, 0));
+    }
+
+    @Test
+    void largeZone() {
+        WorldBlackList worldBlackList = new WorldBlackList();
+        worldBlackList.addZone(new BlackListZone("world", List.of(-10000, -10000, 10000, 10000)));
+
+        assertTrue(worldBlackList.isBlacklisted(9999, -9999));
+        assertFalse(worldBlackList.isBlacklisted(10001, 0));
+    }
+
+    @Test
+    void wholeWorld() {
+        WorldBlackList worldBlackList = new WorldBlackList();
+        worldBlackList.blacklistWholeWorld();
+
+        assertTrue(worldBlackList.isBlacklisted(123456, -654321));
+    }
+}
@@ -0,0 +1,58 @@
+package org.leralix.tan.storage.database;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.leralix.tan.dataclass.newhistory.MiscellaneousHistory;
+import org.leralix.tan.factory.AbstractionFactory;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionHistoryWriterTest {
+
+    @BeforeAll
+    static void setUp() {
+        AbstractionFactory.initializeConfigs();
+    }
+
+    @Test
+    void malformedHistoryDoesNotStopWriter(@TempDir Path folder) throws SQLException, InterruptedException {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + folder.resolve("history.db"));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE territoryTransactionHistory (
+                    date TEXT, type TEXT, territoryDataID TEXT, transactionParty TEXT, amount DOUBLE, day INTEGER)
+                    """);
+        }
+
+        TransactionHistoryWriter writer = new TransactionHistoryWriter(dataSource);
+        writer.add(new MiscellaneousHistory("not a date", "T1", 10));
+
+        long timeout = System.currentTimeMillis() + 5_000;
+        while (writer.getNbFailed() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writer.getNbFailed());
+
+        writer.add(new MiscellaneousHistory("01 02 2024", "T1", 20));
+        writer.close();
+
+        assertEquals(1, writer.getNbWritten());
+        assertEquals(1, writer.getNbFailed());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT amount FROM territoryTransactionHistory")) {
+            assertTrue(resultSet.next());
+            assertEquals(20, resultSet.getDouble("amount"));
+            assertFalse(resultSet.next());
+        }
+    }
+}
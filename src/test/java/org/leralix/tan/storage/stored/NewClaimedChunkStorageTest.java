@@ -0,0 +1,48 @@
+package org.leralix.tan.storage.stored;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.leralix.tan.dataclass.territory.TownData;
+import org.leralix.tan.factory.AbstractionFactory;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewClaimedChunkStorageTest {
+
+    private static World world;
+
+    @BeforeAll
+    static void setUp() {
+        AbstractionFactory.initializeConfigs();
+        world = AbstractionFactory.createWorld("claimWorld", UUID.randomUUID());
+    }
+
+    @Test
+    void ownerIndexFollowsClaims() {
+        NewClaimedChunkStorage storage = NewClaimedChunkStorage.getInstance();
+        TownData firstTown = TownDataStorage.getInstance().newTown("firstIndexTown");
+        TownData secondTown = TownDataStorage.getInstance().newTown("secondIndexTown");
+
+        Chunk chunk1 = AbstractionFactory.createChunk(100, 100, world);
+        Chunk chunk2 = AbstractionFactory.createChunk(101, 100, world);
+
+        storage.claimTownChunk(chunk1, firstTown.getID());
+        storage.claimTownChunk(chunk2, firstTown.getID());
+        assertEquals(2, firstTown.getNumberOfClaimedChunk());
+        assertEquals(2, storage.getAllChunkFrom(firstTown).size());
+
+        storage.claimTownChunk(chunk2, secondTown.getID());
+        assertEquals(1, firstTown.getNumberOfClaimedChunk());
+        assertEquals(1, secondTown.getNumberOfClaimedChunk());
+        assertEquals(secondTown.getID(), storage.getChunkOwnerID(chunk2));
+
+        storage.unclaimAllChunkFromID(firstTown.getID());
+        assertEquals(0, firstTown.getNumberOfClaimedChunk());
+        assertFalse(storage.isChunkClaimed(chunk1));
+        assertTrue(storage.isChunkClaimed(chunk2));
+    }
+}
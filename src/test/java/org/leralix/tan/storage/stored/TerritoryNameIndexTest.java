@@ -0,0 +1,58 @@
+package org.leralix.tan.storage.stored;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerritoryNameIndexTest {
+
+    @Test
+    void ignoreCase() {
+        TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+        nameIndex.put("T1", "Paris");
+
+        assertTrue(nameIndex.contains("paris"));
+        assertEquals("T1", nameIndex.getFirstID("PARIS"));
+        assertNull(nameIndex.getFirstID("London"));
+    }
+
+    @Test
+    void rename() {
+        TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+        nameIndex.put("T1", "Paris");
+
+        nameIndex.put("T1", "Lyon");
+
+        assertFalse(nameIndex.contains("Paris"));
+        assertEquals("T1", nameIndex.getFirstID("lyon"));
+    }
+
+    @Test
+    void duplicateNames() {
+        TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+        nameIndex.put("T1", "Paris");
+        nameIndex.put("T2", "paris");
+
+        assertEquals("T1", nameIndex.getFirstID("Paris"));
+
+        nameIndex.remove("T1");
+        assertEquals("T2", nameIndex.getFirstID("Paris"));
+
+        nameIndex.remove("T2");
+        assertFalse(nameIndex.contains("Paris"));
+    }
+
+    @Test
+    void startingWith() {
+        TerritoryNameIndex nameIndex = new TerritoryNameIndex();
+        nameIndex.put("T1", "Paris");
+        nameIndex.put("T2", "Parma");
+        nameIndex.put("T3", "Lyon");
+
+        assertEquals(List.of("T1", "T2"), nameIndex.getIDsStartingWith("pa"));
+        assertEquals(List.of("T1"), nameIndex.getIDsStartingWith("PARI"));
+        assertTrue(nameIndex.getIDsStartingWith("x").isEmpty());
+    }
+}
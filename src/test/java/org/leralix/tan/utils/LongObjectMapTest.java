@@ -0,0 +1,59 @@
+package org.leralix.tan.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        long key = ChunkUtil.getChunkKey(-5, 12);
+
+        assertNull(map.put(key, "a"));
+        assertEquals("a", map.get(key));
+        assertEquals("a", map.put(key, "b"));
+        assertEquals(1, map.size());
+
+        assertEquals("b", map.remove(key));
+        assertNull(map.get(key));
+        assertFalse(map.containsKey(key));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void chunkKeyRoundTrip() {
+        long key = ChunkUtil.getChunkKey(-30_000_000, 29_999_999);
+
+        assertEquals(-30_000_000, ChunkUtil.getX(key));
+        assertEquals(29_999_999, ChunkUtil.getZ(key));
+        assertNotEquals(ChunkUtil.getChunkKey(1, 2), ChunkUtil.getChunkKey(2, 1));
+    }
+
+    @Test
+    void behavesLikeHashMap() {
+        LongObjectMap<Integer> map = new LongObjectMap<>();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = ChunkUtil.getChunkKey(random.nextInt(64) - 32, random.nextInt(64) - 32);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(reference.size(), map.values().size());
+    }
+}